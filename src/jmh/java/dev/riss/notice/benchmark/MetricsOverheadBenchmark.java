@@ -0,0 +1,74 @@
+package dev.riss.notice.benchmark;
+
+import dev.riss.notice.service.NoticeDetailCache;
+import dev.riss.notice.service.NoticeService;
+import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import dev.riss.notice.web.dto.response.ResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표 기록 비용 (metrics=false 는 management.metrics.enable.all=false 로 모든 미터를 no-op 으로 만든 경우)
+ * - findByIdUncached: repository 메서드 지표(spring.data.repository.invocations, histogram 포함)가 붙는 DB 조회 경로
+ * - timerRecord: histogram 을 내보내는 Timer 한 번 기록
+ * - scrape: /actuator/prometheus 응답 생성 (gauge 계산 포함)
+ */
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    @Param({"true", "false"})
+    private boolean metrics;
+
+    private ConfigurableApplicationContext context;
+    private NoticeService noticeService;
+    private NoticeDetailCache noticeDetailCache;
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+    private Timer timer;
+    private List<Long> uids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = NoticeBenchmarkContext.start(Map.of("management.metrics.enable.all", String.valueOf(metrics)));
+        noticeService = context.getBean(NoticeService.class);
+        noticeDetailCache = context.getBean(NoticeDetailCache.class);
+        prometheusMeterRegistry = context.getBean(PrometheusMeterRegistry.class);
+        timer = context.getBean(MeterRegistry.class).timer("notice.view_count.flush");
+        uids = NoticeBenchmarkContext.noticeUids(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseDto<NoticeRetrieveDto> findByIdUncached() {
+        Long uid = uids.get(ThreadLocalRandom.current().nextInt(uids.size()));
+        noticeDetailCache.invalidate(uid);
+        return noticeService.findById(uid);
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        timer.record(ThreadLocalRandom.current().nextLong(1_000_000L), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public String scrape() {
+        return prometheusMeterRegistry.scrape();
+    }
+}
@@ -0,0 +1,95 @@
+package dev.riss.notice.benchmark;
+
+import dev.riss.notice.NoticeApplication;
+import dev.riss.notice.domain.notice.Attachment;
+import dev.riss.notice.domain.notice.Notice;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (내장 H2, 웹 서버 없음)
+ * - 게시글 NOTICE_COUNT 건과 게시글마다 첨부파일 ATTACHMENTS_PER_NOTICE 개를 미리 등록한다.
+ * - SQL 로그는 끄고, 조회수 DB 동기화는 주기를 하루로 늘려 측정 중에 돌지 않게 한다. (기동 직후 한 번은 반영할 증가분 없이 끝남)
+ *   조회수 저널 fsync 주기 작업은 저널 사용 비용에 포함되므로 그대로 두고, 게시글 변경 기록(change-log) poll 은 기본값대로 꺼져 있다.
+ */
+final class NoticeBenchmarkContext {
+
+    static final int NOTICE_COUNT = 1000;
+    static final int ATTACHMENTS_PER_NOTICE = 3;
+
+    private NoticeBenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(Map<String, String> properties) throws Exception {
+        Path directory = Files.createTempDirectory("notice-benchmark");
+        Map<String, String> defaults = new HashMap<>();
+        // 벤치마크마다(fork 마다) 새 DB 를 쓴다.
+        defaults.put("spring.datasource.url", "jdbc:h2:mem:benchmark-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        defaults.put("spring.jpa.show-sql", "false");
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("logging.level.org.hibernate.SQL", "WARN");
+        defaults.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        defaults.put("spring.task.scheduling.pool.size", "1");
+        defaults.put("notice.view-count.sync-interval-ms", "86400000");
+        defaults.put("notice.attachment.directory", directory.resolve("uploads").toString());
+        defaults.put("notice.view-count.journal.directory", directory.resolve("journal").toString());
+        defaults.putAll(properties);
+
+        // application.yml 보다 우선하도록 명령행 인자로 넘긴다.
+        String[] args = defaults.entrySet().stream().map(entry -> "--" + entry.getKey() + "=" + entry.getValue()).toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(NoticeApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+        seed(context);
+        return context;
+    }
+
+    static List<Long> noticeUids(ConfigurableApplicationContext context) {
+        return context.getBean(NoticeRepository.class).findAll().stream().map(Notice::getUid).sorted().toList();
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        NoticeRepository noticeRepository = context.getBean(NoticeRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        LocalDateTime now = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Notice> notices = new ArrayList<>();
+            for (int i = 0; i < NOTICE_COUNT; i++) {
+                Notice notice = Notice.builder()
+                        .title("공지사항 제목 " + i)
+                        .content("공지사항 내용입니다. 벤치마크용 게시글 " + i)
+                        .author("관리자")
+                        .startAt(now.minusDays(1))
+                        .endAt(now.plusMonths(1))
+                        .views(0L)
+                        .attachmentList(new ArrayList<>())
+                        .build();
+                for (int j = 0; j < ATTACHMENTS_PER_NOTICE; j++) {
+                    Attachment.builder()
+                            .originFileName("첨부파일" + j + ".pdf")
+                            .newFileName(i + "_" + j + ".pdf")
+                            .path("uploads")
+                            .fileSize(1024L)
+                            .checksum("0".repeat(64))
+                            .notice(notice)
+                            .build();
+                }
+                notices.add(notice);
+            }
+            noticeRepository.saveAll(notices);
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package dev.riss.notice.benchmark;
+
+import dev.riss.notice.service.NoticeImportService;
+import dev.riss.notice.web.dto.response.NoticeImportSummaryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 게시글 일괄 등록 (NDJSON ROWS 건, 결과는 버림)
+ * JDBC batch insert 크기(jdbcBatchSize) 에 따른 차이를 측정한다. 1 이면 batch 없이 한 건씩 insert 한다.
+ * 등록한 게시글은 iteration 마다 지워 테이블 크기가 측정 중에 커지지 않게 한다.
+ */
+@State(Scope.Benchmark)
+public class NoticeImportBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final String AUTHOR = "일괄 등록";
+
+    @Param({"1", "100"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private NoticeImportService noticeImportService;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = NoticeBenchmarkContext.start(Map.of("spring.jpa.properties.hibernate.jdbc.batch_size", String.valueOf(jdbcBatchSize)));
+        noticeImportService = context.getBean(NoticeImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        String startAt = LocalDateTime.now().minusDays(1).format(formatter);
+        String endAt = LocalDateTime.now().plusMonths(1).format(formatter);
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            ndjson.append(String.format("{\"title\":\"일괄 등록 제목 %d\",\"content\":\"일괄 등록 내용입니다. 벤치마크용 게시글 %d\","
+                    + "\"author\":\"%s\",\"startAt\":\"%s\",\"endAt\":\"%s\"}\n", i, i, AUTHOR, startAt, endAt));
+        }
+        body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteImported() {
+        jdbcTemplate.update("DELETE FROM notice WHERE author = ?", AUTHOR);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public NoticeImportSummaryDto importNotices() throws Exception {
+        return noticeImportService.importNotices(new ByteArrayInputStream(body), OutputStream.nullOutputStream());
+    }
+}
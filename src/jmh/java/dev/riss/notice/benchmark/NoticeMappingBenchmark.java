@@ -0,0 +1,90 @@
+package dev.riss.notice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.riss.notice.domain.notice.Attachment;
+import dev.riss.notice.domain.notice.Notice;
+import dev.riss.notice.id.IdGenerator;
+import dev.riss.notice.id.UuidV7Generator;
+import dev.riss.notice.service.EncodedNotice;
+import dev.riss.notice.util.ResponseUtil;
+import dev.riss.notice.web.dto.response.NoticeAttachmentDto;
+import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import dev.riss.notice.web.dto.response.ResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 없이 측정하는 변환 경로
+ * - 엔티티 -> 응답 DTO 변환 (Notice.toNoticeRetrieveDto, Attachment.toDto)
+ * - 첨부파일 저장 이름 생성 (Attachment.toNewFileName)
+ * - 단건 조회 응답(ResponseDto<NoticeRetrieveDto>) JSON 직렬화. ObjectMapper 는 Spring MVC 와 같은 설정으로 만든다.
+ * - 직렬화해 둔 단건 조회 응답에 조회수만 끼워 넣기 (EncodedNotice)
+ */
+@State(Scope.Benchmark)
+public class NoticeMappingBenchmark {
+
+    private static final String URL = "http://localhost:8080";
+
+    private Notice notice;
+    private ResponseDto<NoticeRetrieveDto> response;
+    private ObjectMapper objectMapper;
+    private IdGenerator idGenerator;
+    private EncodedNotice encodedNotice;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        notice = Notice.builder()
+                .uid(1L)
+                .title("공지사항 제목")
+                .content("공지사항 내용입니다. ".repeat(10))
+                .author("관리자")
+                .startAt(LocalDateTime.now().minusDays(1))
+                .endAt(LocalDateTime.now().plusMonths(1))
+                .views(1234L)
+                .attachmentList(new ArrayList<>())
+                .build();
+        for (int i = 0; i < NoticeBenchmarkContext.ATTACHMENTS_PER_NOTICE; i++) {
+            Attachment.builder()
+                    .originFileName("첨부파일" + i + ".pdf")
+                    .newFileName("1_" + i + ".pdf")
+                    .path("uploads")
+                    .fileSize(1024L)
+                    .notice(notice)
+                    .build();
+        }
+        response = ResponseUtil.success(toNoticeRetrieveDto());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        idGenerator = new UuidV7Generator();
+        encodedNotice = EncodedNotice.encode(response.getData(), objectMapper);
+    }
+
+    @Benchmark
+    public NoticeRetrieveDto toNoticeRetrieveDto() {
+        List<NoticeAttachmentDto> attachmentDtoList = new ArrayList<>();
+        for (Attachment attachment : notice.getAttachmentList()) attachmentDtoList.add(attachment.toDto(URL));
+        return notice.toNoticeRetrieveDto(attachmentDtoList);
+    }
+
+    @Benchmark
+    public String toNewFileName() {
+        return Attachment.toNewFileName("첨부파일.pdf", 1L, idGenerator);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] spliceEncodedResponse() {
+        return encodedNotice.toResponse(1234L).getJson();
+    }
+}
@@ -0,0 +1,143 @@
+package dev.riss.notice.benchmark;
+
+import dev.riss.notice.domain.notice.Notice;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.domain.notice.NoticeSummary;
+import dev.riss.notice.service.NoticeDetailCache;
+import dev.riss.notice.service.NoticeService;
+import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import dev.riss.notice.web.dto.response.NoticeSimpleRetrieveDto;
+import dev.riss.notice.web.dto.response.ResponseDto;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 조회 경로
+ * - findById: 단건 조회 캐시에 적중하는 경우(대부분의 요청)와 매번 DB 에서 조립하는 경우. 조회수 저널 사용 여부(journal)에 따른 차이도 함께 측정한다.
+ * - findAll: 게시 중인 게시글 스냅샷에서 자르는 경우와 스냅샷 준비 전 DB 로 조회하는 경우.
+ *   DB 조회는 NoticeSummary projection 과 비교 기준(엔티티를 읽어 DTO 로 변환하던 이전 방식)을 같은 조건(readOnly 트랜잭션, 11건)으로 측정한다.
+ */
+public class NoticeReadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Detail {
+
+        @Param({"false", "true"})
+        public boolean journal;
+
+        private ConfigurableApplicationContext context;
+        private NoticeService noticeService;
+        private NoticeDetailCache noticeDetailCache;
+        private List<Long> uids;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            context = NoticeBenchmarkContext.start(Map.of("notice.view-count.journal.enabled", String.valueOf(journal)));
+            noticeService = context.getBean(NoticeService.class);
+            noticeDetailCache = context.getBean(NoticeDetailCache.class);
+            uids = NoticeBenchmarkContext.noticeUids(context);
+            for (Long uid : uids) noticeService.findById(uid); // 캐시 채우기
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        private Long randomUid() {
+            return uids.get(ThreadLocalRandom.current().nextInt(uids.size()));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Listing {
+
+        private ConfigurableApplicationContext context;
+        private NoticeService noticeService;
+        private NoticeRepository noticeRepository;
+        private EntityManager entityManager;
+        private TransactionTemplate readOnlyTransaction;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            context = NoticeBenchmarkContext.start(Map.of());
+            noticeService = context.getBean(NoticeService.class);
+            noticeRepository = context.getBean(NoticeRepository.class);
+            entityManager = context.getBean(EntityManager.class);
+            readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnlyTransaction.setReadOnly(true);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        private int randomPage() {
+            return ThreadLocalRandom.current().nextInt(NoticeBenchmarkContext.NOTICE_COUNT / 10);
+        }
+    }
+
+    @Benchmark
+    public ResponseDto<NoticeRetrieveDto> findByIdCached(Detail state) {
+        return state.noticeService.findById(state.randomUid());
+    }
+
+    @Benchmark
+    public ResponseDto<NoticeRetrieveDto> findByIdUncached(Detail state) {
+        Long uid = state.randomUid();
+        state.noticeDetailCache.invalidate(uid);
+        return state.noticeService.findById(uid);
+    }
+
+    @Benchmark
+    public ResponseDto<List<NoticeSimpleRetrieveDto>> findAllFromSnapshot(Listing state) {
+        return state.noticeService.findAll(state.randomPage());
+    }
+
+    @Benchmark
+    public List<NoticeSimpleRetrieveDto> findAllFromDatabase(Listing state) {
+        int page = state.randomPage();
+        return state.readOnlyTransaction.execute(status -> state.noticeRepository
+                .findVisibleSummaries(LocalDateTime.now(), PageRequest.of(page, 10)).getContent().stream()
+                .map(NoticeSummary::toNoticeSimpleRetrieveDto)
+                .toList());
+    }
+
+    /**
+     * 비교 기준: projection 도입 전처럼 Notice 엔티티(content, author 포함)를 영속성 컨텍스트에 올린 뒤 DTO 로 변환
+     */
+    @Benchmark
+    public List<NoticeSimpleRetrieveDto> findAllFromDatabaseEntities(Listing state) {
+        int page = state.randomPage();
+        return state.readOnlyTransaction.execute(status -> state.entityManager
+                .createQuery("SELECT n FROM Notice n WHERE n.startAt <= :now AND n.endAt > :now"
+                        + " ORDER BY n.createdAt DESC, n.uid DESC", Notice.class)
+                .setParameter("now", LocalDateTime.now())
+                .setFirstResult(page * 10)
+                .setMaxResults(11)
+                .getResultList().stream()
+                .limit(10)
+                .map(notice -> NoticeSimpleRetrieveDto.builder()
+                        .uid(notice.getUid())
+                        .title(notice.getTitle())
+                        .createdAt(notice.getCreatedAt())
+                        .build())
+                .toList());
+    }
+}
@@ -0,0 +1,65 @@
+package dev.riss.notice.benchmark;
+
+import dev.riss.notice.service.NoticeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 조회수 경로
+ * - incrementViewCount: 8 개 스레드가 소수의 인기 게시글(hotNotices)에 몰리는 경합 상황
+ * - syncViewCountsToDatabase: 게시글 DIRTY_NOTICES 건의 증가분을 DB 에 반영
+ * 조회수 저널 사용 여부(journal)에 따른 차이도 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+public class ViewCountBenchmark {
+
+    private static final int DIRTY_NOTICES = 100;
+
+    @Param({"false", "true"})
+    public boolean journal;
+
+    @Param({"1", "100"})
+    public int hotNotices;
+
+    private ConfigurableApplicationContext context;
+    private NoticeService noticeService;
+    private List<Long> uids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = NoticeBenchmarkContext.start(Map.of("notice.view-count.journal.enabled", String.valueOf(journal)));
+        noticeService = context.getBean(NoticeService.class);
+        uids = NoticeBenchmarkContext.noticeUids(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void incrementViewCount() {
+        noticeService.incrementViewCount(uids.get(ThreadLocalRandom.current().nextInt(hotNotices)));
+    }
+
+    /**
+     * 측정 대상은 동기화뿐이지만, 매번 반영할 증가분이 있어야 하므로 증가분 누적(in-memory, 수 µs)도 함께 포함된다.
+     */
+    @Benchmark
+    public void syncViewCountsToDatabase() {
+        for (int i = 0; i < DIRTY_NOTICES; i++) noticeService.incrementViewCount(uids.get(i));
+        noticeService.syncViewCountsToDatabase();
+    }
+}
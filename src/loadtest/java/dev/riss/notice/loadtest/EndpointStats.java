@@ -0,0 +1,108 @@
+package dev.riss.notice.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 하나의 측정 결과
+ * 성공한 요청의 지연 시간(us)을 HDR histogram 에 기록하고, 실패(2xx 가 아니거나 success 가 false, 타임아웃 등)는 따로 센다.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void record(long latencyNanos, boolean success) {
+        if (success) recorder.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        else errors.increment();
+    }
+
+    /**
+     * 지금까지 기록한 결과를 꺼내고 비운다.
+     */
+    Result drain() {
+        return new Result(name, recorder.getIntervalHistogram(), errors.sumThenReset());
+    }
+
+    static final class Result {
+
+        private final String name;
+        private final Histogram histogram;
+        private final long errors;
+
+        private Result(String name, Histogram histogram, long errors) {
+            this.name = name;
+            this.histogram = histogram;
+            this.errors = errors;
+        }
+
+        static Result total(Iterable<Result> results) {
+            Histogram histogram = new Histogram(3);
+            long errors = 0L;
+            for (Result result : results) {
+                histogram.add(result.histogram);
+                errors += result.errors;
+            }
+            return new Result("total", histogram, errors);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        long getRequests() {
+            return histogram.getTotalCount() + errors;
+        }
+
+        long getErrors() {
+            return errors;
+        }
+
+        Histogram getHistogram() {
+            return histogram;
+        }
+
+        Map<String, Object> toMap(double seconds) {
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("min", histogram.getTotalCount() == 0 ? 0L : histogram.getMinValue());
+            latency.put("mean", Math.round(histogram.getMean() * 10) / 10.0);
+            latency.put("p50", histogram.getValueAtPercentile(50));
+            latency.put("p90", histogram.getValueAtPercentile(90));
+            latency.put("p99", histogram.getValueAtPercentile(99));
+            latency.put("p999", histogram.getValueAtPercentile(99.9));
+            latency.put("max", histogram.getMaxValue());
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", getRequests());
+            map.put("errors", errors);
+            map.put("throughput", Math.round(histogram.getTotalCount() / seconds * 10) / 10.0);
+            map.put("latencyMicros", latency);
+            // Histogram.decodeFromCompressedByteBuffer 로 복원해 다른 실행과 비교하거나 합칠 수 있다.
+            map.put("histogram", encode(histogram));
+            return map;
+        }
+
+        private static String encode(Histogram histogram) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package dev.riss.notice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.riss.notice.NoticeApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 API 부하 테스트
+ * 1. --url 이 없으면 내장 H2 로 애플리케이션을 띄운다. (임의 포트, SQL 로그 끔)
+ * 2. 게시글 notices 건과 게시글마다 첨부파일 attachments 개를 API 로 등록한다.
+ * 3. mix 비율대로 API 를 호출하고, warmup 이후 duration 동안의 결과만 API 별 HDR histogram 으로 모은다.
+ * 4. API 별 처리량과 지연 시간을 출력하고 output 에 JSON 으로 저장한다.
+ *
+ * 요청은 JDK HttpClient 로 보낸다. 작업자 스레드는 가상 스레드를 쓸 수 있으면(JDK 21+) 가상 스레드, 아니면 플랫폼 스레드다.
+ */
+public final class LoadTest {
+
+    private static final int SEED_CONCURRENCY = 16;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path directory = null;
+        ConfigurableApplicationContext context = null;
+        String url = options.url;
+        if (url == null) {
+            directory = Files.createTempDirectory("notice-loadtest");
+            context = startApplication(directory);
+            url = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        ExecutorService executor = newWorkerExecutor();
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(options.timeout)
+                    .executor(executor)
+                    .build();
+            String baseUrl = url + "/api/v1/notice";
+            byte[] attachment = new byte[options.attachmentSize];
+            ThreadLocalRandom.current().nextBytes(attachment);
+
+            System.out.printf("게시글 %d건, 첨부파일 %d개씩 등록 중... (%s)%n", options.notices, options.attachments, url);
+            List<Long> uids = seed(client, executor, baseUrl, options, attachment);
+            Operation.Target target = new Operation.Target(baseUrl, uids, attachment, options.timeout);
+
+            System.out.printf("%s 모드로 %ds(warmup %ds) 동안 요청 중... %s%n", options.mode.name().toLowerCase(),
+                    options.duration.toSeconds(), options.warmup.toSeconds(), options.toMap().get("mix"));
+            Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+            for (Operation operation : options.mix.keySet()) stats.put(operation, new EndpointStats(operation.getName()));
+
+            if (options.mode == LoadTestOptions.Mode.CLOSED) runClosed(client, executor, target, options, stats);
+            else runOpen(client, target, options, stats);
+
+            report(url, options, stats);
+        } finally {
+            executor.shutdownNow();
+            if (context != null) context.close();
+            if (directory != null) deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * 작업자 concurrency 개가 각자 요청을 보내고 응답을 받은 뒤 다음 요청을 보낸다.
+     * 서버가 느려지면 보내는 요청도 줄어들기 때문에 지연 시간이 실제보다 낮게 보일 수 있다. (coordinated omission)
+     */
+    private static void runClosed(HttpClient client, ExecutorService executor, Operation.Target target,
+                                  LoadTestOptions options, Map<Operation, EndpointStats> stats) throws Exception {
+        Operation[] operations = weightedOperations(options.mix);
+        long measureFrom = System.nanoTime() + options.warmup.toNanos();
+        long measureTo = measureFrom + options.duration.toNanos();
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < options.concurrency; i++) {
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long startedAt;
+                while ((startedAt = System.nanoTime()) < measureTo) {
+                    Operation operation = operations[random.nextInt(operations.length)];
+                    boolean success;
+                    try {
+                        success = isSuccess(client.send(operation.request(target, random), HttpResponse.BodyHandlers.ofString()));
+                    } catch (IOException e) {
+                        success = false;
+                    }
+                    if (startedAt >= measureFrom) stats.get(operation).record(System.nanoTime() - startedAt, success);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) worker.get();
+    }
+
+    /**
+     * 응답과 관계없이 1/rate 초 간격으로 요청을 보낸다.
+     * 지연 시간은 실제 전송 시각이 아니라 예정된 전송 시각부터 재므로, 동시 요청 상한이나 클라이언트 지연으로 전송이 밀린 시간도 포함된다.
+     */
+    private static void runOpen(HttpClient client, Operation.Target target,
+                                LoadTestOptions options, Map<Operation, EndpointStats> stats) throws Exception {
+        Operation[] operations = weightedOperations(options.mix);
+        Semaphore inFlight = new Semaphore(options.maxInFlight);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate;
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup.toNanos();
+        long measureTo = measureFrom + options.duration.toNanos();
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedAt = startedAt + sequence * intervalNanos;
+            if (intendedAt >= measureTo) break;
+            long waitNanos;
+            while ((waitNanos = intendedAt - System.nanoTime()) > 0) LockSupport.parkNanos(waitNanos);
+            inFlight.acquire();
+
+            Operation operation = operations[random.nextInt(operations.length)];
+            client.sendAsync(operation.request(target, random), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, e) -> {
+                        inFlight.release();
+                        if (intendedAt >= measureFrom) stats.get(operation).record(System.nanoTime() - intendedAt, e == null && isSuccess(response));
+                    });
+        }
+        // 남은 요청이 끝날 때까지 대기
+        if (!inFlight.tryAcquire(options.maxInFlight, options.timeout.toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+            System.out.printf("응답을 받지 못한 요청 %d건이 있습니다.%n", options.maxInFlight - inFlight.availablePermits());
+        }
+    }
+
+    private static void report(String url, LoadTestOptions options, Map<Operation, EndpointStats> stats) throws IOException {
+        double seconds = options.duration.toMillis() / 1000.0;
+        List<EndpointStats.Result> results = new ArrayList<>();
+        for (EndpointStats endpointStats : stats.values()) results.add(endpointStats.drain());
+        EndpointStats.Result total = EndpointStats.Result.total(results);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (EndpointStats.Result result : results) endpoints.put(result.getName(), result.toMap(seconds));
+
+        Map<String, Object> optionMap = options.toMap();
+        optionMap.put("url", url);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("createdAt", OffsetDateTime.now().toString());
+        report.put("options", optionMap);
+        report.put("endpoints", endpoints);
+        report.put("total", total.toMap(seconds));
+
+        Path output = Paths.get(options.output).toAbsolutePath();
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+
+        System.out.printf("%n%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "api", "requests", "errors", "req/s", "p50(us)", "p90(us)", "p99(us)", "p999(us)", "max(us)");
+        results.add(total);
+        for (EndpointStats.Result result : results) {
+            System.out.printf("%-8s %10d %8d %10.1f %10d %10d %10d %10d %10d%n",
+                    result.getName(), result.getRequests(), result.getErrors(), result.getHistogram().getTotalCount() / seconds,
+                    result.getHistogram().getValueAtPercentile(50), result.getHistogram().getValueAtPercentile(90),
+                    result.getHistogram().getValueAtPercentile(99), result.getHistogram().getValueAtPercentile(99.9),
+                    result.getHistogram().getMaxValue());
+        }
+        System.out.println("결과 파일: " + output);
+    }
+
+    /**
+     * 게시글을 등록하고 첨부파일을 올린 뒤 등록된 게시글 uid 를 반환한다.
+     */
+    private static List<Long> seed(HttpClient client, ExecutorService executor, String baseUrl,
+                                   LoadTestOptions options, byte[] attachment) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Semaphore concurrency = new Semaphore(SEED_CONCURRENCY);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < options.notices; i++) {
+            String json = Operation.noticeJson("부하 테스트 공지사항 " + i);
+            concurrency.acquire();
+            futures.add(executor.submit(() -> {
+                try {
+                    HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(baseUrl))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(json))
+                            .build(), HttpResponse.BodyHandlers.ofString());
+                    if (!isSuccess(created)) throw new IllegalStateException("게시글 등록 실패: " + created.body());
+                    long uid = objectMapper.readTree(created.body()).path("data").path("uid").asLong();
+
+                    for (int j = 0; j < options.attachments; j++) {
+                        HttpResponse<String> uploaded = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + uid + "/attachment/stream?fileName=seed" + j + ".bin"))
+                                .header("Content-Type", "application/octet-stream")
+                                .POST(HttpRequest.BodyPublishers.ofByteArray(attachment))
+                                .build(), HttpResponse.BodyHandlers.ofString());
+                        if (!isSuccess(uploaded)) throw new IllegalStateException("첨부파일 등록 실패: " + uploaded.body());
+                    }
+                    return uid;
+                } finally {
+                    concurrency.release();
+                }
+            }));
+        }
+
+        List<Long> uids = new ArrayList<>();
+        for (Future<Long> future : futures) uids.add(future.get());
+        return uids;
+    }
+
+    private static boolean isSuccess(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2 && response.body().contains("\"success\":true");
+    }
+
+    /**
+     * mix 비율만큼 반복한 배열 (여기서 무작위로 하나 고른다)
+     */
+    private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) operations.add(operation);
+        });
+        return operations.toArray(Operation[]::new);
+    }
+
+    private static ConfigurableApplicationContext startApplication(Path directory) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("notice.attachment.directory", directory.resolve("uploads").toString());
+        properties.put("notice.view-count.journal.directory", directory.resolve("journal").toString());
+        properties.put("spring.servlet.multipart.location", directory.toString());
+
+        // application.yml 보다 우선하도록 명령행 인자로 넘긴다.
+        String[] args = properties.entrySet().stream().map(entry -> "--" + entry.getKey() + "=" + entry.getValue()).toArray(String[]::new);
+        return new SpringApplicationBuilder(NoticeApplication.class).run(args);
+    }
+
+    /**
+     * JDK 21 이상이면 가상 스레드, 아니면 플랫폼 스레드로 작업마다 스레드를 만든다.
+     */
+    private static ExecutorService newWorkerExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "loadtest-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dev.riss.notice.loadtest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 옵션 (--key=value)
+ *
+ * --url              대상 서버 주소. 없으면 내장 H2 로 애플리케이션을 띄우고 게시글을 미리 등록한다.
+ * --notices          미리 등록할 게시글 수 (기본 1000)
+ * --attachments      게시글마다 미리 올릴 첨부파일 수 (기본 2)
+ * --attachment-size  첨부파일 크기(byte), upload 요청에도 사용 (기본 4096)
+ * --mix              요청 비율 (기본 detail:80,list:15,update:4,upload:1)
+ * --mode             closed | open (기본 closed)
+ *                    closed: concurrency 개의 작업자가 응답을 받은 뒤 다음 요청을 보낸다.
+ *                    open: 응답과 관계없이 rate 의 일정한 간격으로 요청을 보내고, 지연 시간을 예정된 전송 시각부터 잰다.
+ *                          (서버가 느려져도 요청을 덜 보내지 않으므로 coordinated omission 이 생기지 않는다)
+ * --concurrency      closed 모드 작업자 수 (기본 32)
+ * --rate             open 모드 초당 요청 수 (기본 200)
+ * --max-in-flight    open 모드 동시 요청 상한. 넘으면 전송이 늦어지고 그만큼 지연 시간에 포함된다. (기본 1024)
+ * --warmup           측정에서 제외할 시작 구간 (기본 10s)
+ * --duration         측정 구간 (기본 30s)
+ * --timeout          요청 타임아웃 (기본 10s)
+ * --output           결과 JSON 파일 (기본 build/results/loadtest/loadtest-yyyyMMddHHmmss.json)
+ */
+final class LoadTestOptions {
+
+    enum Mode { CLOSED, OPEN }
+
+    private static final Set<String> KEYS = Set.of("url", "notices", "attachments", "attachment-size", "mix", "mode",
+            "concurrency", "rate", "max-in-flight", "warmup", "duration", "timeout", "output");
+
+    final String url;
+    final int notices;
+    final int attachments;
+    final int attachmentSize;
+    final Map<Operation, Integer> mix;
+    final Mode mode;
+    final int concurrency;
+    final int rate;
+    final int maxInFlight;
+    final Duration warmup;
+    final Duration duration;
+    final Duration timeout;
+    final String output;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.url = values.get("url");
+        this.notices = Integer.parseInt(values.getOrDefault("notices", "1000"));
+        this.attachments = Integer.parseInt(values.getOrDefault("attachments", "2"));
+        this.attachmentSize = Integer.parseInt(values.getOrDefault("attachment-size", "4096"));
+        this.mix = parseMix(values.getOrDefault("mix", "detail:80,list:15,update:4,upload:1"));
+        this.mode = Mode.valueOf(values.getOrDefault("mode", "closed").toUpperCase());
+        this.concurrency = Integer.parseInt(values.getOrDefault("concurrency", "32"));
+        this.rate = Integer.parseInt(values.getOrDefault("rate", "200"));
+        this.maxInFlight = Integer.parseInt(values.getOrDefault("max-in-flight", "1024"));
+        this.warmup = parseDuration(values.getOrDefault("warmup", "10s"));
+        this.duration = parseDuration(values.getOrDefault("duration", "30s"));
+        this.timeout = parseDuration(values.getOrDefault("timeout", "10s"));
+        this.output = values.getOrDefault("output", "build/results/loadtest/loadtest-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + ".json");
+
+        if (notices <= 0) throw new IllegalArgumentException("notices 는 1 이상이어야 합니다.");
+        if (mode == Mode.CLOSED && concurrency <= 0) throw new IllegalArgumentException("concurrency 는 1 이상이어야 합니다.");
+        if (mode == Mode.OPEN && rate <= 0) throw new IllegalArgumentException("rate 는 1 이상이어야 합니다.");
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            int separator = arg.indexOf('=');
+            if (!KEYS.contains(arg.substring(2, separator))) throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    /**
+     * 결과 파일에 함께 기록할 옵션
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("url", url);
+        map.put("notices", notices);
+        map.put("attachments", attachments);
+        map.put("attachmentSize", attachmentSize);
+        Map<String, Integer> mixMap = new LinkedHashMap<>();
+        mix.forEach((operation, weight) -> mixMap.put(operation.getName(), weight));
+        map.put("mix", mixMap);
+        map.put("mode", mode.name().toLowerCase());
+        if (mode == Mode.CLOSED) map.put("concurrency", concurrency);
+        else {
+            map.put("rate", rate);
+            map.put("maxInFlight", maxInFlight);
+        }
+        map.put("warmupSeconds", warmup.toMillis() / 1000.0);
+        map.put("durationSeconds", duration.toMillis() / 1000.0);
+        return map;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) throw new IllegalArgumentException("mix 는 name:weight 목록이어야 합니다: " + value);
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) throw new IllegalArgumentException("mix 비율은 0 이상이어야 합니다: " + part);
+            if (weight > 0) mix.put(Operation.from(pair[0].trim()), weight);
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("mix 에 요청이 하나 이상 있어야 합니다.");
+        return mix;
+    }
+
+    /**
+     * 10s, 500ms, 2m 또는 초 단위 숫자
+     */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s")) return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m")) return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,121 @@
+package dev.riss.notice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트에서 호출하는 API (mix 의 name)
+ */
+enum Operation {
+
+    /**
+     * 게시글 단건 조회 GET /{uid}
+     */
+    DETAIL("detail") {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            return target.builder("/" + target.randomUid(random)).GET().build();
+        }
+    },
+
+    /**
+     * 게시글 전체 조회 GET /all?page= (앞쪽 10 페이지 중 하나)
+     */
+    LIST("list") {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            int pages = Math.max(1, Math.min(10, target.uids.size() / 10));
+            return target.builder("/all?page=" + random.nextInt(pages)).GET().build();
+        }
+    },
+
+    /**
+     * 게시글 수정 PUT /{uid}
+     */
+    UPDATE("update") {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            long uid = target.randomUid(random);
+            return target.builder("/" + uid)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(noticeJson("수정된 공지사항 " + uid + "-" + random.nextInt(1000))))
+                    .build();
+        }
+    },
+
+    /**
+     * 게시글 첨부파일 스트리밍 등록 POST /{uid}/attachment/stream
+     */
+    UPLOAD("upload") {
+        @Override
+        HttpRequest request(Target target, ThreadLocalRandom random) {
+            return target.builder("/" + target.randomUid(random) + "/attachment/stream?fileName=loadtest.bin")
+                    .header("Content-Type", "application/octet-stream")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(target.attachment))
+                    .build();
+        }
+    };
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final String name;
+
+    Operation(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    abstract HttpRequest request(Target target, ThreadLocalRandom random);
+
+    static Operation from(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 요청입니다: " + name + " (detail | list | update | upload)"));
+    }
+
+    /**
+     * 게시글 등록/수정 요청 본문 (게시 기간: 하루 전 ~ 30일 뒤)
+     */
+    static String noticeJson(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return "{\"title\":\"" + title + "\",\"content\":\"" + title + " 내용입니다.\",\"author\":\"loadtest\","
+                + "\"startAt\":\"" + now.minusDays(1).format(DATE_TIME_FORMATTER) + "\","
+                + "\"endAt\":\"" + now.plusDays(30).format(DATE_TIME_FORMATTER) + "\"}";
+    }
+
+    /**
+     * 요청 대상 (API 주소, 미리 등록한 게시글, 업로드할 내용)
+     */
+    static final class Target {
+
+        private final String baseUrl;
+        private final List<Long> uids;
+        private final byte[] attachment;
+        private final Duration timeout;
+
+        Target(String baseUrl, List<Long> uids, byte[] attachment, Duration timeout) {
+            this.baseUrl = baseUrl;
+            this.uids = uids;
+            this.attachment = attachment;
+            this.timeout = timeout;
+        }
+
+        private long randomUid(ThreadLocalRandom random) {
+            return uids.get(random.nextInt(uids.size()));
+        }
+
+        private HttpRequest.Builder builder(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+        }
+    }
+}
@@ -1,7 +1,75 @@
 package dev.riss.notice.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * spring.threads.virtual.enabled=true 이고 JDK 21 이상이면 가상 스레드 executor 를, 아니면 스레드 풀 executor 를 등록한다.
+ * (Tomcat 요청 처리와 @Scheduled 용 scheduler 는 같은 설정으로 Spring Boot 가 전환한다)
+ */
+@Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    /**
+     * Executor 빈을 직접 등록하면 Spring Boot 기본 executor 가 생성되지 않으므로,
+     * 기본 @Async 와 Spring MVC 비동기 처리를 위한 기본 executor 를 같은 설정(spring.task.execution.*)으로 등록
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 첨부파일 저장/삭제 전용 executor
+     * 큐가 가득 차면 TaskRejectedException 을 던지며, 이는 "서버가 바쁨" 응답으로 변환된다.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor attachmentIoExecutor(@Value("${notice.attachment.io.core-pool-size:4}") int corePoolSize,
+                                                       @Value("${notice.attachment.io.max-pool-size:8}") int maxPoolSize,
+                                                       @Value("${notice.attachment.io.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("attachment-io-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드의 첨부파일 저장/삭제 executor
+     * 작업마다 가상 스레드를 만들고, 동시에 실행되는 작업이 max-pool-size + queue-capacity 를 넘으면 제출한 스레드가 기다린다.
+     * (업로드 요청 수와 바이트는 AttachmentUploadLimiter 가 먼저 제한하므로 여기서 거절하지 않는다)
+     */
+    @Bean(name = "attachmentIoExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor attachmentIoExecutorVirtualThreads(@Value("${notice.attachment.io.max-pool-size:8}") int maxPoolSize,
+                                                                      @Value("${notice.attachment.io.queue-capacity:64}") int queueCapacity) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("attachment-io-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxPoolSize + queueCapacity);
+        executor.setTaskTerminationTimeout(30_000L);
+        return executor;
+    }
 }
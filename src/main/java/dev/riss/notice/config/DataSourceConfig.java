@@ -0,0 +1,92 @@
+package dev.riss.notice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.riss.notice.datasource.ConcurrencyLimitedDataSource;
+import dev.riss.notice.datasource.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * 커넥션 풀(DataSource) 을 ConcurrencyLimitedDataSource 로 감싼다. (replica 를 쓰면 primary, replica 풀 각각)
+     * - notice.datasource.concurrency-limit: 동시 커넥션 사용 수. 지정하지 않으면 가상 스레드 모드에서는 Hikari 최대 풀 크기, 아니면 제한하지 않음(0)
+     * - notice.datasource.acquire-timeout: 허가를 기다리는 최대 시간 (기본 Hikari connection-timeout)
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 이미 감싼 DataSource(ConcurrencyLimitedDataSource, LazyConnectionDataSourceProxy) 는 풀이 아니므로 건너뛴다.
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) return bean;
+
+                HikariDataSource hikari = bean instanceof HikariDataSource hikariDataSource ? hikariDataSource : null;
+                Integer limit = environment.getProperty("notice.datasource.concurrency-limit", Integer.class);
+                if (limit == null) limit = Threading.VIRTUAL.isActive(environment) && hikari != null ? hikari.getMaximumPoolSize() : 0;
+                if (limit <= 0) return bean;
+
+                Duration acquireTimeout = environment.getProperty("notice.datasource.acquire-timeout", Duration.class,
+                        Duration.ofMillis(hikari != null ? hikari.getConnectionTimeout() : 30_000L));
+                return new ConcurrencyLimitedDataSource(dataSource, limit, acquireTimeout);
+            }
+        };
+    }
+
+    /**
+     * notice.datasource.replica.url 이 있으면 읽기 전용 replica 풀을 따로 만들고, readOnly 트랜잭션을 replica 로 보낸다.
+     * primary 풀은 spring.datasource.*, replica 풀은 notice.datasource.replica.* (url, username, password, driver-class-name, hikari.*) 로 설정한다.
+     */
+    @Configuration
+    @ConditionalOnProperty("notice.datasource.replica.url")
+    static class ReplicaConfig {
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        @ConfigurationProperties("notice.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(Environment environment, DataSourceProperties properties) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(environment.getRequiredProperty("notice.datasource.replica.url"))
+                    .username(environment.getProperty("notice.datasource.replica.username", properties.determineUsername()))
+                    .password(environment.getProperty("notice.datasource.replica.password", properties.determinePassword()))
+                    .driverClassName(environment.getProperty("notice.datasource.replica.driver-class-name", properties.determineDriverClassName()))
+                    .build();
+            replica.setPoolName("HikariPool-replica");
+            replica.setReadOnly(true);
+            return replica;
+        }
+
+        /**
+         * notice.datasource.replica.max-lag: replica 지연 허용 시간 (기본 5s). 쓴 클라이언트는 이 시간 동안 primary 에서 읽는다.
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                     @Qualifier("replicaDataSource") DataSource replica,
+                                     Environment environment) {
+            Duration maxLag = environment.getProperty("notice.datasource.replica.max-lag", Duration.class, Duration.ofSeconds(5));
+            return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, maxLag));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package dev.riss.notice.config;
+
+import dev.riss.notice.id.IdGenerator;
+import dev.riss.notice.id.UuidV7Generator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * 기본 식별자 생성기 (시간순 UUIDv7)
+     * 다른 방식(snowflake 등)이 필요하면 이 빈만 교체한다.
+     */
+    @Bean
+    public IdGenerator idGenerator() {
+        return new UuidV7Generator();
+    }
+}
@@ -0,0 +1,32 @@
+package dev.riss.notice.config;
+
+import dev.riss.notice.storage.AttachmentStorage;
+import dev.riss.notice.storage.MeteredAttachmentStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 지표 (Micrometer, /actuator/metrics, /actuator/prometheus)
+ * - API 별 요청 시간: http.server.requests (Spring MVC 기본)
+ * - repository 메서드별 쿼리 시간: spring.data.repository.invocations (Spring Data 기본)
+ * - 조회수 증가분/동기화: ViewCounter, 단건/목록 조회 캐시: NoticeDetailCache, NoticeListCache, 자동완성 사전: TitleSuggester (각자 MeterBinder)
+ * - 첨부파일 I/O: MeteredAttachmentStorage
+ * 분위수는 application.yml 의 percentiles-histogram(고정 버킷) 으로 내보내고, 애플리케이션에서 계산하지 않는다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor meteredAttachmentStoragePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof AttachmentStorage storage) || bean instanceof MeteredAttachmentStorage) return bean;
+                return new MeteredAttachmentStorage(storage, meterRegistry.getObject());
+            }
+        };
+    }
+}
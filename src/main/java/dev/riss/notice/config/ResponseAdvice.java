@@ -1,11 +1,16 @@
 package dev.riss.notice.config;
 
 import dev.riss.notice.exception.ApiException;
+import dev.riss.notice.exception.BusyException;
 import dev.riss.notice.util.ResponseUtil;
 import dev.riss.notice.web.dto.response.ResponseDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.NoSuchElementException;
@@ -15,6 +20,30 @@ import java.util.NoSuchElementException;
 @Slf4j
 public class ResponseAdvice {
 
+    @ExceptionHandler({BusyException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseDto exception(BusyException e) {
+        log.warn(e.getMessage());
+        return ResponseUtil.failure(e.getMessage(), null);
+    }
+
+    @ExceptionHandler({TaskRejectedException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseDto exception(TaskRejectedException e) {
+        log.warn(e.getMessage());
+        return ResponseUtil.failure("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", null);
+    }
+
+    /**
+     * DB 커넥션을 제한 시간 안에 얻지 못한 경우 (커넥션 풀, ConcurrencyLimitedDataSource)
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseDto exception(CannotCreateTransactionException e) {
+        log.warn(e.getMessage());
+        return ResponseUtil.failure("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", null);
+    }
+
     @ExceptionHandler({ApiException.class})
     public ResponseDto exception(ApiException e) {
         log.error(e.getMessage());
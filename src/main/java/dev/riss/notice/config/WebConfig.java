@@ -1,21 +1,22 @@
 package dev.riss.notice.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import dev.riss.notice.web.AttachmentUploadInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${notice.attachment.directory}")
-    private String attachmentDirectory;
+    private final AttachmentUploadInterceptor attachmentUploadInterceptor;
 
+    /**
+     * multipart 첨부파일 업로드는 본문을 파싱하기 전에 업로드 한도를 잡는다. (스트리밍 업로드는 NoticeService 에서 잡음)
+     */
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/" + attachmentDirectory + "/**")
-                .addResourceLocations("file:" + attachmentDirectory + "/")
-                .setCachePeriod(3600)
-                .resourceChain(true);
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(attachmentUploadInterceptor).addPathPatterns("/api/v1/notice/*/attachment");
     }
 }
@@ -0,0 +1,121 @@
+package dev.riss.notice.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖의 조회)는 primary 로 커넥션을 나눠 주는 DataSource
+ * - readOnly 여부는 트랜잭션이 시작된 뒤에야 알 수 있으므로, 실제 쿼리 시점에 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * - read-your-writes: 요청 처리 중 쓰기 트랜잭션이 커밋되면 응답에 쿠키(COOKIE_NAME)를 내려주고,
+ *   그 뒤 max-lag(replica 지연 허용 시간) 동안은 같은 클라이언트의 readOnly 조회도 primary 로 보낸다.
+ * - readFromPrimary() 안에서 새로 얻는 커넥션은 readOnly 여도 primary 로 보낸다. (최근 변경된 게시글을 다시 읽는 경우 등)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    public static final String COOKIE_NAME = "notice-read-primary-until";
+    private static final String PINNED_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".PINNED";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final long maxLagMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag) {
+        this.maxLagMillis = maxLag.toMillis();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 현재 스레드에서 reader 를 실행하는 동안 얻는 커넥션은 readOnly 트랜잭션이어도 primary 로 보낸다.
+     * 쓰기 트랜잭션이 아니므로 read-your-writes 쿠키는 내려주지 않는다.
+     * 이미 커넥션을 얻은 트랜잭션 안에서는 그 커넥션을 계속 쓰므로, reader 안에서 새 트랜잭션을 시작해야 한다.
+     */
+    public static <T> T readFromPrimary(Supplier<T> reader) {
+        Boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) PRIMARY_READ.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY_READ.get() != null || isPinnedToPrimary() ? Target.PRIMARY : Target.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) pinAfterCommit();
+        return Target.PRIMARY;
+    }
+
+    private boolean isPinnedToPrimary() {
+        if (maxLagMillis <= 0) return false;
+        HttpServletRequest request = currentRequest();
+        if (request == null) return false;
+
+        Object pinned = request.getAttribute(PINNED_ATTRIBUTE);
+        if (pinned == null) {
+            pinned = hasValidCookie(request);
+            request.setAttribute(PINNED_ATTRIBUTE, pinned);
+        }
+        return (Boolean) pinned;
+    }
+
+    // 쓰기가 커밋된 뒤로는 같은 요청의 조회도, 쿠키를 가진 다음 요청의 조회도 primary 로 보낸다.
+    private void pinAfterCommit() {
+        if (maxLagMillis <= 0 || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                HttpServletRequest request = attributes.getRequest();
+                HttpServletResponse response = attributes.getResponse();
+                request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+                if (response == null || response.isCommitted()) return;
+
+                Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis() + maxLagMillis));
+                cookie.setMaxAge((int) Math.max(1, (maxLagMillis + 999) / 1000));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                response.addCookie(cookie);
+            }
+        });
+    }
+
+    // 클라이언트가 만료 시각을 늘려 보내도 max-lag 보다 길게는 인정하지 않는다.
+    private boolean hasValidCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return false;
+        for (Cookie cookie : cookies) {
+            if (!COOKIE_NAME.equals(cookie.getName())) continue;
+            try {
+                long until = Long.parseLong(cookie.getValue());
+                long now = System.currentTimeMillis();
+                return until > now && until <= now + maxLagMillis;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+}
@@ -22,4 +22,11 @@ public class BaseEntity {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * 엔티티 컬럼은 그대로지만 딸린 데이터(첨부파일 등)가 바뀌었을 때 수정 시각을 갱신한다. (조건부 조회의 Last-Modified/ETag 기준)
+     */
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
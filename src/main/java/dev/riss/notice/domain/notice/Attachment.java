@@ -1,11 +1,10 @@
 package dev.riss.notice.domain.notice;
 
+import dev.riss.notice.id.IdGenerator;
 import dev.riss.notice.web.dto.response.NoticeAttachmentDto;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.UUID;
-
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -13,7 +12,8 @@ import java.util.UUID;
 public class Attachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachment_seq")
+    @SequenceGenerator(name = "attachment_seq", sequenceName = "attachment_seq", allocationSize = 50)
     private long uid;
 
     private String originFileName;
@@ -21,6 +21,9 @@ public class Attachment {
 
     private String path;
 
+    private Long fileSize;
+    private String checksum;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "notice_id")
     private Notice notice;
@@ -30,9 +33,8 @@ public class Attachment {
         notice.getAttachmentList().add(this);
     }
 
-    public static String toNewFileName(String fileName, long noticeId) {
-        String uuid = UUID.randomUUID().toString();
-        return noticeId + "_" + uuid + "." + getFileExtension(fileName);
+    public static String toNewFileName(String fileName, long noticeId, IdGenerator idGenerator) {
+        return noticeId + "_" + idGenerator.nextId() + "." + getFileExtension(fileName);
     }
 
     private static String getFileExtension(String fileName) {
@@ -44,10 +46,12 @@ public class Attachment {
     }
 
     @Builder
-    public Attachment(String originFileName, String newFileName, String path, Notice notice) {
+    public Attachment(String originFileName, String newFileName, String path, Long fileSize, String checksum, Notice notice) {
         this.originFileName = originFileName;
         this.newFileName = newFileName;
         this.path = path;
+        this.fileSize = fileSize;
+        this.checksum = checksum;
         addNotice(notice);
     }
 
@@ -56,7 +60,7 @@ public class Attachment {
                 .builder()
                 .uid(uid)
                 .originFileName(originFileName)
-                .fileUrl(url + "/" + path + "/" +  newFileName)
+                .fileUrl(url + "/api/v1/notice/" + notice.getUid() + "/attachment/" + uid)
                 .build();
     }
 }
@@ -1,12 +1,25 @@
 package dev.riss.notice.domain.notice;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    /**
+     * 파생 쿼리(findAllByNoticeUid)는 notice 를 left join 한 뒤 notice.uid 로 거르므로 notice_id 인덱스를 타지 못한다.
+     * 외래 키 컬럼으로 바로 거르도록 직접 작성한다.
+     */
+    @Query("SELECT a FROM Attachment a WHERE a.notice.uid = :noticeUid")
     List<Attachment> findAllByNoticeUid(@Param("noticeUid") Long noticeUid);
+
+    @Query("SELECT a FROM Attachment a WHERE a.notice.uid IN :noticeUids")
+    List<Attachment> findAllByNoticeUidIn(@Param("noticeUids") Collection<Long> noticeUids);
+
+    long countByNewFileName(String newFileName);
 }
@@ -4,9 +4,9 @@ import dev.riss.notice.domain.BaseEntity;
 import dev.riss.notice.web.dto.request.NoticeRequestDto;
 import dev.riss.notice.web.dto.response.NoticeAttachmentDto;
 import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
-import dev.riss.notice.web.dto.response.NoticeSimpleRetrieveDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
@@ -14,15 +14,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(NoticeEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @ToString
 public class Notice extends BaseEntity {
 
+    // IDENTITY 는 insert 배치가 꺼지므로 pooled sequence 로 ID 를 미리 할당받는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notice_seq")
+    @SequenceGenerator(name = "notice_seq", sequenceName = "notice_seq", allocationSize = 50)
     private Long uid;
 
     @Column(nullable = false)
@@ -45,6 +48,7 @@ public class Notice extends BaseEntity {
     private LocalDateTime endAt;
 
     @OneToMany(mappedBy = "notice", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<Attachment> attachmentList = new ArrayList<>();
 
     public NoticeRetrieveDto toNoticeRetrieveDto(List<NoticeAttachmentDto> noticeAttachmentDtoList) {
@@ -56,14 +60,7 @@ public class Notice extends BaseEntity {
                 .views(this.getViews())
                 .author(this.getAuthor())
                 .noticeAttachmentDtoList(noticeAttachmentDtoList)
-                .build();
-    }
-
-    public NoticeSimpleRetrieveDto toNoticeSimpleRetrieveDto() {
-        return NoticeSimpleRetrieveDto.builder()
-                .uid(this.getUid())
-                .title(this.getTitle())
-                .createdAt(this.getCreatedAt())
+                .updatedAt(this.getUpdatedAt() != null ? this.getUpdatedAt() : this.getCreatedAt())
                 .build();
     }
 
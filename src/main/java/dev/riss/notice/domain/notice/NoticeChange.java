@@ -0,0 +1,16 @@
+package dev.riss.notice.domain.notice;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 변경 기록(notice_change_log) 한 건. 어떤 게시글이 바뀌었는지만 담고, 값은 읽는 쪽에서 DB 에서 다시 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeChange {
+
+    private final Long id;
+    private final Long noticeUid;
+    private final String origin;
+}
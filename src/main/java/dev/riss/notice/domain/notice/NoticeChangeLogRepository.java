@@ -0,0 +1,53 @@
+package dev.riss.notice.domain.notice;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게시글 변경 기록(notice_change_log) 을 JDBC 로 쓰고 읽는다.
+ * 기록은 게시글 엔티티를 flush 하는 중에 쓰므로 JPA 엔티티가 아니라 같은 트랜잭션(커넥션)의 JDBC 로 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoticeChangeLogRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notice_change_log (notice_uid, origin, created_at) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT id, notice_uid, origin FROM notice_change_log";
+    private static final RowMapper<NoticeChange> ROW_MAPPER =
+            (rs, rowNum) -> new NoticeChange(rs.getLong("id"), rs.getLong("notice_uid"), rs.getString("origin"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(Long noticeUid, String origin) {
+        jdbcTemplate.update(INSERT_SQL, noticeUid, origin, LocalDateTime.now());
+    }
+
+    /**
+     * id 가 주어진 값보다 큰 기록을 id 순으로 최대 limit 건 조회 (keyset)
+     */
+    public List<NoticeChange> findAfter(long id, int limit) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id > ? ORDER BY id LIMIT ?", ROW_MAPPER, id, limit);
+    }
+
+    public List<NoticeChange> findByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id IN (" + placeholders + ") ORDER BY id", ROW_MAPPER, ids.toArray());
+    }
+
+    public long findLastId() {
+        Long lastId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM notice_change_log", Long.class);
+        return lastId == null ? 0L : lastId;
+    }
+
+    public int deleteCreatedBefore(LocalDateTime createdAt) {
+        return jdbcTemplate.update("DELETE FROM notice_change_log WHERE created_at < ?", createdAt);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.riss.notice.domain.notice;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글이 등록/수정/삭제되었을 때 발행되는 이벤트. 발행 시점의 게시글 값을 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long uid;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+
+    public static NoticeChangedEvent of(Type type, Notice notice) {
+        return new NoticeChangedEvent(type, notice.getUid(), notice.getTitle(), notice.getContent(), notice.getCreatedAt(),
+                notice.getStartAt(), notice.getEndAt());
+    }
+
+    public NoticeSummary toNoticeSummary() {
+        return new NoticeSummary(uid, title, createdAt, startAt, endAt);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.riss.notice.domain.notice;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인용 projection (uid, 제목, 내용)
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeDocument {
+
+    private final Long uid;
+    private final String title;
+    private final String content;
+}
@@ -0,0 +1,32 @@
+package dev.riss.notice.domain.notice;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 게시글 엔티티 변경을 NoticeChangedEvent 로 발행한다.
+ * 서비스 메서드뿐 아니라 repository 를 직접 사용한 변경도 모두 발행된다.
+ */
+@RequiredArgsConstructor
+public class NoticeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void postPersist(Notice notice) {
+        eventPublisher.publishEvent(NoticeChangedEvent.of(NoticeChangedEvent.Type.CREATED, notice));
+    }
+
+    @PostUpdate
+    public void postUpdate(Notice notice) {
+        eventPublisher.publishEvent(NoticeChangedEvent.of(NoticeChangedEvent.Type.UPDATED, notice));
+    }
+
+    @PostRemove
+    public void postRemove(Notice notice) {
+        eventPublisher.publishEvent(NoticeChangedEvent.of(NoticeChangedEvent.Type.DELETED, notice));
+    }
+}
@@ -1,23 +1,87 @@
 package dev.riss.notice.domain.notice;
 
-import jakarta.transaction.Transactional;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface NoticeRepository extends JpaRepository<Notice, Long> {
+public interface NoticeRepository extends JpaRepository<Notice, Long>, NoticeRepositoryCustom {
 
-    Page<Notice> findAllByEndAtAfter(@Param("endAt")LocalDateTime endAt, Pageable pageable);
+    /**
+     * 게시글과 첨부파일 목록을 fetch join 으로 한 번에 조회
+     */
+    @Query("SELECT n FROM Notice n LEFT JOIN FETCH n.attachmentList WHERE n.uid = :uid")
+    Optional<Notice> findWithAttachmentsByUid(@Param("uid") Long uid);
 
-    @Modifying
-    @Transactional
-    @Query("UPDATE Notice n SET n.views = n.views + :count WHERE n.uid = :noticeUid")
-    void incrementViewCount(@Param("noticeUid") Long noticeUid, @Param("count") Long count);
+    /**
+     * 전체 게시글을 uid 순으로 커서(forward-only)를 열어 읽는다. 트랜잭션 안에서 사용하고, 다 읽으면 닫아야 한다.
+     * 첨부파일 목록은 초기화하지 않는다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT n FROM Notice n ORDER BY n.uid")
+    Stream<Notice> streamAllByOrderByUid();
+
+    /**
+     * uid 가 주어진 값보다 큰 게시글의 색인용 데이터를 uid 순으로 조회 (keyset)
+     */
+    @Query("SELECT new dev.riss.notice.domain.notice.NoticeDocument(n.uid, n.title, n.content) FROM Notice n" +
+            " WHERE n.uid > :uid ORDER BY n.uid")
+    List<NoticeDocument> findDocumentsByUidAfter(@Param("uid") Long uid, Pageable pageable);
+
+    /**
+     * uid 가 주어진 값보다 큰 게시글의 자동완성용 데이터를 uid 순으로 조회 (keyset)
+     */
+    @Query("SELECT new dev.riss.notice.domain.notice.NoticeTitle(n.uid, n.title, n.views) FROM Notice n" +
+            " WHERE n.uid > :uid ORDER BY n.uid")
+    List<NoticeTitle> findTitlesByUidAfter(@Param("uid") Long uid, Pageable pageable);
+
+    @Query("SELECT new dev.riss.notice.domain.notice.NoticeSummary(n.uid, n.title, n.createdAt) FROM Notice n" +
+            " WHERE n.uid IN :uids")
+    List<NoticeSummary> findSummariesByUidIn(@Param("uids") Collection<Long> uids);
+
+    /**
+     * 게시가 끝나지 않은 게시글(게시 시작 전 포함)을 조회. idx_notice_visible 의 end_at 범위로 읽는다.
+     */
+    @Query("SELECT new dev.riss.notice.domain.notice.NoticeSummary(n.uid, n.title, n.createdAt, n.startAt, n.endAt) FROM Notice n" +
+            " WHERE n.endAt > :endAt")
+    List<NoticeSummary> findSchedulesByEndAtAfter(@Param("endAt") LocalDateTime endAt);
+
+    /**
+     * 현재 게시 중인(startAt <= now < endAt) 게시글을 최신순으로 조회.
+     * 게시가 끝난 게시글이 쌓일수록 게시 중인 게시글은 end_at 순서의 끝부분에 모이므로, idx_notice_visible 의 end_at 범위만 읽고
+     * 나머지 조건과 정렬은 인덱스 안의 값(start_at, created_at, uid, title)으로 처리한다. (테이블 행을 읽지 않는다)
+     */
+    @Query("SELECT new dev.riss.notice.domain.notice.NoticeSummary(n.uid, n.title, n.createdAt) FROM Notice n" +
+            " WHERE n.startAt <= :now AND n.endAt > :now" +
+            " ORDER BY n.createdAt DESC, n.uid DESC")
+    Slice<NoticeSummary> findVisibleSummaries(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 커서(createdAt, uid) 다음 게시 중인 게시글을 최신순으로 조회.
+     * idx_notice_created 를 created_at <= 커서 범위부터 인덱스 순서대로 읽어 정렬 없이 한 페이지를 채우면 멈춘다.
+     * (created_at 범위 조건을 따로 두어야 OR 조건만 있을 때처럼 인덱스 처음부터 읽지 않는다)
+     */
+    @Query("SELECT new dev.riss.notice.domain.notice.NoticeSummary(n.uid, n.title, n.createdAt) FROM Notice n" +
+            " WHERE n.startAt <= :now AND n.endAt > :now" +
+            " AND n.createdAt <= :createdAt AND (n.createdAt < :createdAt OR n.uid < :uid)" +
+            " ORDER BY n.createdAt DESC, n.uid DESC")
+    Slice<NoticeSummary> findVisibleSummariesAfterCursor(@Param("now") LocalDateTime now,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("uid") Long uid,
+                                                         Pageable pageable);
 }
@@ -0,0 +1,8 @@
+package dev.riss.notice.domain.notice;
+
+import java.util.Map;
+
+public interface NoticeRepositoryCustom {
+
+    int[] incrementViewCounts(Map<Long, Long> viewCountDeltas);
+}
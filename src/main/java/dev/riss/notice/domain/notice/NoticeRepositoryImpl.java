@@ -0,0 +1,30 @@
+package dev.riss.notice.domain.notice;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
+
+    private static final String INCREMENT_VIEW_COUNT_SQL = "UPDATE notice SET views = views + ? WHERE uid = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 게시글의 조회수 증가분을 하나의 JDBC batch UPDATE 로 반영
+     */
+    @Override
+    public int[] incrementViewCounts(Map<Long, Long> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) return new int[0];
+
+        List<Object[]> batchArgs = new ArrayList<>(viewCountDeltas.size());
+        for (Map.Entry<Long, Long> entry : viewCountDeltas.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+        return jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, batchArgs);
+    }
+}
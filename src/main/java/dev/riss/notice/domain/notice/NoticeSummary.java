@@ -0,0 +1,35 @@
+package dev.riss.notice.domain.notice;
+
+import dev.riss.notice.web.dto.response.NoticeSimpleRetrieveDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 projection
+ * 필요한 컬럼만 조회하며, 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 dirty checking 대상도 아니다.
+ * 목록 응답에는 uid, title, createdAt 만 필요하므로 startAt, endAt 은 게시 기간이 필요한 경우에만 채운다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeSummary {
+
+    private final Long uid;
+    private final String title;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+
+    public NoticeSummary(Long uid, String title, LocalDateTime createdAt) {
+        this(uid, title, createdAt, null, null);
+    }
+
+    public NoticeSimpleRetrieveDto toNoticeSimpleRetrieveDto() {
+        return NoticeSimpleRetrieveDto.builder()
+                .uid(uid)
+                .title(title)
+                .createdAt(createdAt)
+                .build();
+    }
+}
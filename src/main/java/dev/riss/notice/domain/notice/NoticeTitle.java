@@ -0,0 +1,16 @@
+package dev.riss.notice.domain.notice;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 제목 자동완성용 projection (uid, 제목, 조회수)
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeTitle {
+
+    private final Long uid;
+    private final String title;
+    private final Long views;
+}
@@ -0,0 +1,10 @@
+package dev.riss.notice.exception;
+
+/**
+ * 서버 자원(첨부파일 I/O 스레드, 동시 업로드 수 등)이 부족하여 요청을 처리할 수 없을 때 발생
+ */
+public class BusyException extends ApiException {
+    public BusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.riss.notice.id;
+
+/**
+ * 전역적으로 겹치지 않는 식별자 생성기
+ * 첨부파일 저장 이름 등에 쓰인다. (기본 구현: UuidV7Generator, IdGeneratorConfig 참고)
+ */
+public interface IdGenerator {
+
+    String nextId();
+}
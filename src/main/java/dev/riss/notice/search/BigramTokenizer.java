@@ -0,0 +1,68 @@
+package dev.riss.notice.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * - NFKC 정규화 후 소문자로 바꾸고, 글자/숫자가 아닌 문자로 나눈다.
+ * - 한글/한자/가나 구간은 형태소 분석 없이 두 글자씩 겹쳐 자른다. (예: "공지사항" -> 공지, 지사, 사항) 한 글자 구간은 그대로 쓴다.
+ * - 그 밖의 구간(영문, 숫자)은 단어 하나를 토큰 하나로 쓴다.
+ */
+public final class BigramTokenizer {
+
+    private static final int MAX_WORD_LENGTH = 64;
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            int codePoint = normalized.codePointAt(start);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                start += Character.charCount(codePoint);
+                continue;
+            }
+
+            boolean cjk = isCjk(codePoint);
+            int end = start;
+            while (end < length) {
+                int next = normalized.codePointAt(end);
+                if (!Character.isLetterOrDigit(next) || isCjk(next) != cjk) break;
+                end += Character.charCount(next);
+            }
+
+            if (cjk) addBigrams(normalized.substring(start, end), tokens);
+            else if (end - start <= MAX_WORD_LENGTH) tokens.add(normalized.substring(start, end));
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String run, List<String> tokens) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
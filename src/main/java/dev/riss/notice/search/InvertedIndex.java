@@ -0,0 +1,205 @@
+package dev.riss.notice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 게시글 제목/내용의 역색인. 동기화하지 않으므로 NoticeSearchIndex 의 락 안에서 사용한다.
+ * - 게시글마다 내부 문서 번호를 증가하는 순서로 부여하므로, 새 문서는 posting list 끝에 이어 붙이기만 한다.
+ * - 삭제는 삭제 표시만 하고 검색 시 건너뛴다. 삭제된 문서가 많아지면 posting list 를 다시 써서 정리한다.
+ * - 수정은 삭제 후 새 문서 번호로 다시 추가한다.
+ * - 점수는 BM25 이며, 제목 토큰은 TITLE_BOOST 배의 빈도로 센다.
+ */
+public final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_BOOST = 3;
+    private static final int MIN_COMPACT_DOCS = 1024;
+
+    private static final Comparator<SearchHit> HIT_ORDER = Comparator
+            .comparingDouble(SearchHit::getScore)
+            .thenComparingLong(SearchHit::getUid);
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByUid = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] uids = new long[256];
+    private int[] docLengths = new int[256];
+    private int maxDoc;
+    private int liveDocs;
+    private long liveLength;
+
+    public void add(long uid, String title, String content) {
+        remove(uid);
+
+        Map<String, Integer> freqs = new HashMap<>();
+        List<String> titleTokens = BigramTokenizer.tokenize(title);
+        List<String> contentTokens = BigramTokenizer.tokenize(content);
+        for (String token : titleTokens) freqs.merge(token, TITLE_BOOST, Integer::sum);
+        for (String token : contentTokens) freqs.merge(token, 1, Integer::sum);
+
+        int doc = newDoc(uid, titleTokens.size() * TITLE_BOOST + contentTokens.size());
+        for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), token -> new PostingList()).add(doc, entry.getValue());
+        }
+    }
+
+    public boolean remove(long uid) {
+        Integer doc = docByUid.remove(uid);
+        if (doc == null) return false;
+        deleted.set(doc);
+        liveDocs--;
+        liveLength -= docLengths[doc];
+        if (maxDoc >= MIN_COMPACT_DOCS && deleted.cardinality() * 4 > maxDoc) compact();
+        return true;
+    }
+
+    public int size() {
+        return liveDocs;
+    }
+
+    /**
+     * 질의 토큰 중 하나라도 포함한 게시글을 BM25 점수가 높은 순으로 최대 k 개 반환한다.
+     */
+    public List<SearchHit> search(String query, int k) {
+        Set<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(query));
+        if (terms.isEmpty() || liveDocs == 0 || k <= 0) return List.of();
+
+        float avgDocLength = (float) liveLength / liveDocs;
+        float[] scores = new float[maxDoc];
+        BitSet matched = new BitSet(maxDoc);
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList == null) continue;
+
+            int docFreq = Math.min(postingList.getDocFreq(), liveDocs);
+            float idf = (float) Math.log(1 + (liveDocs - docFreq + 0.5) / (docFreq + 0.5));
+            PostingList.Cursor cursor = postingList.cursor();
+            while (cursor.next()) {
+                int doc = cursor.doc();
+                if (deleted.get(doc)) continue;
+                float freq = cursor.freq();
+                float norm = K1 * (1 - B + B * docLengths[doc] / avgDocLength);
+                scores[doc] += idf * freq * (K1 + 1) / (freq + norm);
+                matched.set(doc);
+            }
+        }
+
+        // 크기 k 의 최소 힙으로 상위 k 개만 유지
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(k, HIT_ORDER);
+        for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+            if (heap.size() < k) {
+                heap.add(new SearchHit(uids[doc], scores[doc]));
+            } else if (scores[doc] > heap.peek().getScore()) {
+                heap.poll();
+                heap.add(new SearchHit(uids[doc], scores[doc]));
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(heap);
+        hits.sort(HIT_ORDER.reversed());
+        return hits;
+    }
+
+    /**
+     * other 의 문서를 모두 이 색인 뒤에 이어 붙인다. (병렬로 만든 부분 색인 병합용)
+     */
+    public void append(InvertedIndex other) {
+        int[] remap = new int[other.maxDoc];
+        for (int doc = 0; doc < other.maxDoc; doc++) {
+            remap[doc] = other.deleted.get(doc) ? -1 : newDoc(other.uids[doc], other.docLengths[doc]);
+        }
+        other.forEachPosting((token, doc, freq) -> {
+            if (remap[doc] >= 0) postings.computeIfAbsent(token, t -> new PostingList()).add(remap[doc], freq);
+        });
+    }
+
+    public void trimToSize() {
+        postings.values().forEach(PostingList::trimToSize);
+    }
+
+    /**
+     * posting list 가 차지하는 byte 수 (인코딩된 데이터 기준)
+     */
+    public long postingBytes() {
+        long bytes = 0L;
+        for (PostingList postingList : postings.values()) bytes += postingList.sizeInBytes();
+        return bytes;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    private int newDoc(long uid, int docLength) {
+        if (maxDoc == uids.length) {
+            uids = Arrays.copyOf(uids, maxDoc * 2);
+            docLengths = Arrays.copyOf(docLengths, maxDoc * 2);
+        }
+        int doc = maxDoc++;
+        uids[doc] = uid;
+        docLengths[doc] = docLength;
+        docByUid.put(uid, doc);
+        liveDocs++;
+        liveLength += docLength;
+        return doc;
+    }
+
+    // 삭제된 문서를 posting list 에서 빼고 문서 번호를 다시 매긴다.
+    private void compact() {
+        int[] remap = new int[maxDoc];
+        int next = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = next;
+                uids[next] = uids[doc];
+                docLengths[next] = docLengths[doc];
+                docByUid.put(uids[next], next);
+                next++;
+            }
+        }
+
+        Iterator<Map.Entry<String, PostingList>> iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PostingList> entry = iterator.next();
+            PostingList compacted = new PostingList();
+            PostingList.Cursor cursor = entry.getValue().cursor();
+            while (cursor.next()) {
+                if (remap[cursor.doc()] >= 0) compacted.add(remap[cursor.doc()], cursor.freq());
+            }
+            if (compacted.getDocFreq() == 0) {
+                iterator.remove();
+            } else {
+                compacted.trimToSize();
+                entry.setValue(compacted);
+            }
+        }
+
+        maxDoc = next;
+        deleted.clear();
+    }
+
+    private void forEachPosting(PostingConsumer consumer) {
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList.Cursor cursor = entry.getValue().cursor();
+            while (cursor.next()) consumer.accept(entry.getKey(), cursor.doc(), cursor.freq());
+        }
+    }
+
+    @FunctionalInterface
+    private interface PostingConsumer {
+        void accept(String token, int doc, int freq);
+    }
+}
@@ -0,0 +1,152 @@
+package dev.riss.notice.search;
+
+import dev.riss.notice.domain.notice.NoticeChangedEvent;
+import dev.riss.notice.domain.notice.NoticeDocument;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 전문 검색 색인
+ * - 기동 시 DB 의 게시글을 청크 단위로 읽어 여러 스레드에서 부분 색인을 만든 뒤 순서대로 병합한다.
+ * - 게시글 등록/수정/삭제가 커밋되면 해당 게시글만 색인에 반영한다. 재색인 중에 들어온 변경은 모아 두었다가 재색인이 끝나면 반영한다.
+ * - 검색은 read lock, 변경은 write lock 으로 보호한다.
+ */
+@Slf4j
+@Component
+public class NoticeSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final NoticeRepository noticeRepository;
+    private final int rebuildThreads;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    private List<NoticeChangedEvent> pendingEvents;
+
+    public NoticeSearchIndex(NoticeRepository noticeRepository,
+                             @Value("${notice.search.rebuild-threads:0}") int rebuildThreads) {
+        this.noticeRepository = noticeRepository;
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<SearchHit> search(String query, int size) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) return; // 이미 재색인 중
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.nanoTime();
+        InvertedIndex rebuilt;
+        try {
+            rebuilt = buildFromDatabase();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (NoticeChangedEvent event : pendingEvents) apply(rebuilt, event);
+            pendingEvents = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("검색 색인을 생성했습니다. 게시글 수: {}, 토큰 수: {}, posting 크기: {} bytes, 소요 시간: {}ms",
+                rebuilt.size(), rebuilt.termCount(), rebuilt.postingBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) pendingEvents.add(event);
+            apply(index, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(InvertedIndex target, NoticeChangedEvent event) {
+        if (event.getType() == NoticeChangedEvent.Type.DELETED) target.remove(event.getUid());
+        else target.add(event.getUid(), event.getTitle(), event.getContent());
+    }
+
+    private InvertedIndex buildFromDatabase() {
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        // 읽기가 색인 생성보다 빠르면 읽어 둔 게시글이 메모리에 쌓이므로, 진행 중인 청크 수를 제한한다.
+        Semaphore inFlight = new Semaphore(rebuildThreads * 2);
+        try {
+            List<Future<InvertedIndex>> parts = new ArrayList<>();
+            long lastUid = 0L;
+            while (true) {
+                List<NoticeDocument> documents = noticeRepository.findDocumentsByUidAfter(lastUid, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (documents.isEmpty()) break;
+                lastUid = documents.get(documents.size() - 1).getUid();
+
+                inFlight.acquire();
+                parts.add(executor.submit(() -> {
+                    try {
+                        InvertedIndex part = new InvertedIndex();
+                        for (NoticeDocument document : documents) part.add(document.getUid(), document.getTitle(), document.getContent());
+                        return part;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            InvertedIndex merged = new InvertedIndex();
+            for (Future<InvertedIndex> part : parts) merged.append(part.get());
+            merged.trimToSize();
+            return merged;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("검색 색인 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("검색 색인 생성에 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
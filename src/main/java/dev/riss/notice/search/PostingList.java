@@ -0,0 +1,100 @@
+package dev.riss.notice.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 토큰의 posting list. (문서 번호, 토큰 빈도) 를 문서 번호 오름차순으로 저장한다.
+ * 문서 번호는 직전 문서 번호와의 차이(delta)로, 두 값 모두 varint 로 인코딩하여 byte[] 하나에 이어 붙인다.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int docFreq;
+
+    /**
+     * doc 은 이전에 추가한 문서 번호보다 커야 한다.
+     */
+    void add(int doc, int freq) {
+        if (doc <= lastDoc) throw new IllegalArgumentException("문서 번호는 증가해야 합니다. doc: " + doc + ", last: " + lastDoc);
+        ensureCapacity(10);
+        writeVarint(doc - lastDoc);
+        writeVarint(freq);
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    int getDocFreq() {
+        return docFreq;
+    }
+
+    int getLastDoc() {
+        return lastDoc;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    void trimToSize() {
+        if (data.length != length) data = Arrays.copyOf(data, length);
+    }
+
+    Cursor cursor() {
+        return new Cursor(data, length);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    static final class Cursor {
+
+        private final byte[] data;
+        private final int length;
+        private int position;
+        private int doc = -1;
+        private int freq;
+
+        private Cursor(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+
+        boolean next() {
+            if (position >= length) return false;
+            doc += readVarint();
+            freq = readVarint();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int freq() {
+            return freq;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.riss.notice.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+
+    private final long uid;
+    private final float score;
+}
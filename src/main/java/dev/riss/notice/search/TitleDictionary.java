@@ -0,0 +1,381 @@
+package dev.riss.notice.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 제목 자동완성용 불변 사전
+ * - 정규화한 제목(키)을 정렬해 char[] 하나에 이어 붙이고, 시작 위치만 int[] 로 둔다. 접두어가 같은 키는 연속 구간이 되므로
+ *   trie 를 따라 내려가는 대신 이진 탐색 두 번으로 접두어 구간을 찾는다.
+ * - 원본 제목을 글자마다 소문자로 바꾼 것이 키와 같으면 원본 제목을 그대로 저장하고 비교할 때 소문자로 바꾼다.
+ *   (대부분의 제목이 여기에 해당한다) 전각 문자나 연속 공백처럼 다르면 키를 저장하고 원본 제목을 따로 둔다.
+ * - 가중치(조회수)의 구간 최댓값 segment tree 로, 접두어 구간 안에서 가중치가 높은 k 개를 O(k log n) 에 꺼낸다.
+ * - 변경은 기존 사전과 바뀐 항목을 병합한 새 사전을 만들어 반환하므로, 읽는 쪽은 락 없이 참조만 바꿔 쓰면 된다.
+ */
+public final class TitleDictionary {
+
+    public static final TitleDictionary EMPTY = new TitleDictionary(new char[0], new int[1], new char[0], new int[1], new long[0], new long[0]);
+
+    private final char[] keys;
+    private final int[] keyOffsets;
+    // 키와 다른 원본 제목만. 키와 같은 항목은 길이 0
+    private final char[] titles;
+    private final int[] titleOffsets;
+    private final long[] uids;
+    private final long[] weights;
+    private final int[] tree;
+
+    private TitleDictionary(char[] keys, int[] keyOffsets, char[] titles, int[] titleOffsets, long[] uids, long[] weights) {
+        this.keys = keys;
+        this.keyOffsets = keyOffsets;
+        this.titles = titles;
+        this.titleOffsets = titleOffsets;
+        this.uids = uids;
+        this.weights = weights;
+        this.tree = buildTree();
+    }
+
+    /**
+     * 키 비교에 쓰는 정규화. NFKC 정규화 후 소문자로 바꾸고, 연속된 공백을 하나로 줄이고 앞뒤 공백을 없앤다.
+     */
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = builder.length() > 0;
+                continue;
+            }
+            if (space) builder.append(' ');
+            builder.append(c);
+            space = false;
+        }
+        return builder.toString();
+    }
+
+    public static TitleDictionary build(Collection<Entry> entries) {
+        return EMPTY.merge(entries, new long[0], Map.of());
+    }
+
+    public int size() {
+        return uids.length;
+    }
+
+    /**
+     * 사전이 차지하는 배열 크기 (객체 헤더 제외)
+     */
+    public long sizeInBytes() {
+        return (long) keys.length * Character.BYTES + (long) keyOffsets.length * Integer.BYTES
+                + (long) titles.length * Character.BYTES + (long) titleOffsets.length * Integer.BYTES
+                + (long) uids.length * Long.BYTES + (long) weights.length * Long.BYTES
+                + (long) tree.length * Integer.BYTES;
+    }
+
+    /**
+     * 정규화한 제목이 prefix 로 시작하는 항목을 가중치 순(같으면 uid 역순)으로 최대 k 개 반환한다.
+     */
+    public List<TitleSuggestion> suggest(String prefix, int k) {
+        String normalized = normalize(prefix);
+        int size = size();
+        if (normalized.isEmpty() || size == 0 || k <= 0) return List.of();
+
+        int from = lowerBound(normalized, false);
+        int to = lowerBound(normalized, true);
+        if (from >= to) return List.of();
+
+        // 구간을 (최댓값 위치) 기준으로 쪼개 가며 큰 값부터 꺼낸다.
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> compareIndex(b[2], a[2]));
+        queue.add(new int[]{from, to, argMax(from, to)});
+        List<TitleSuggestion> suggestions = new ArrayList<>(Math.min(k, to - from));
+        while (!queue.isEmpty() && suggestions.size() < k) {
+            int[] range = queue.poll();
+            int best = range[2];
+            suggestions.add(new TitleSuggestion(uids[best], title(best), weights[best]));
+            if (range[0] < best) queue.add(new int[]{range[0], best, argMax(range[0], best)});
+            if (best + 1 < range[1]) queue.add(new int[]{best + 1, range[1], argMax(best + 1, range[1])});
+        }
+        return suggestions;
+    }
+
+    /**
+     * 바뀐 항목을 반영한 새 사전을 만든다.
+     * @param upserts 추가/수정할 항목. 가중치가 음수면 기존 항목의 가중치를 이어 쓴다.
+     * @param removals 삭제할 uid (정렬되어 있어야 한다)
+     * @param weightDeltas uid 별 가중치 증가분
+     */
+    public TitleDictionary merge(Collection<Entry> upserts, long[] removals, Map<Long, Long> weightDeltas) {
+        if (upserts.isEmpty() && removals.length == 0) {
+            return weightDeltas.isEmpty() ? this : withWeights(weightDeltas);
+        }
+
+        long[] changed = new long[upserts.size() + removals.length];
+        int changedCount = 0;
+        for (Entry entry : upserts) changed[changedCount++] = entry.getUid();
+        for (long uid : removals) changed[changedCount++] = uid;
+        Arrays.sort(changed);
+
+        // 기존 사전에서 바뀐 항목을 빼면서, 가중치를 이어 쓸 수 있도록 기억해 둔다.
+        long[] previousWeights = new long[changed.length];
+        Arrays.fill(previousWeights, -1);
+        BitSet skipped = new BitSet(uids.length);
+        for (int i = 0; i < uids.length; i++) {
+            int index = Arrays.binarySearch(changed, uids[i]);
+            if (index < 0) continue;
+            previousWeights[index] = weights[i];
+            skipped.set(i);
+        }
+
+        List<Candidate> added = new ArrayList<>(upserts.size());
+        for (Entry entry : upserts) {
+            long weight = entry.getWeight();
+            if (weight < 0) weight = Math.max(previousWeights[Arrays.binarySearch(changed, entry.getUid())], 0);
+            added.add(Candidate.of(entry.getUid(), entry.getTitle(), weight));
+        }
+        added.sort(Comparator.comparing(Candidate::key).thenComparingLong(Candidate::uid));
+
+        int addedKeyLength = 0;
+        int addedTitleLength = 0;
+        for (Candidate candidate : added) {
+            addedKeyLength += candidate.stored().length();
+            addedTitleLength += candidate.title().length();
+        }
+
+        Deltas deltas = new Deltas(weightDeltas);
+        Builder builder = new Builder(uids.length + added.size(), keys.length + addedKeyLength, titles.length + addedTitleLength);
+        int next = 0;
+        for (int i = 0; i < uids.length; i++) {
+            if (skipped.get(i)) continue;
+            while (next < added.size() && compareKey(i, added.get(next)) > 0) builder.add(added.get(next++), deltas);
+            builder.add(this, i, deltas);
+        }
+        while (next < added.size()) builder.add(added.get(next++), deltas);
+        return builder.build();
+    }
+
+    private TitleDictionary withWeights(Map<Long, Long> weightDeltas) {
+        Deltas deltas = new Deltas(weightDeltas);
+        long[] updated = weights.clone();
+        for (int i = 0; i < uids.length; i++) updated[i] += deltas.get(uids[i]);
+        return new TitleDictionary(keys, keyOffsets, titles, titleOffsets, uids, updated);
+    }
+
+    private String title(int index) {
+        int start = titleOffsets[index];
+        int end = titleOffsets[index + 1];
+        if (start == end) return new String(keys, keyOffsets[index], keyOffsets[index + 1] - keyOffsets[index]);
+        return new String(titles, start, end - start);
+    }
+
+    /**
+     * prefix 로 시작하는 키 구간의 시작(after=false) 또는 끝(after=true) 위치
+     */
+    private int lowerBound(String prefix, boolean after) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparePrefix(mid, prefix);
+            if (cmp < 0 || (after && cmp == 0)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * 키의 앞 prefix.length() 글자와 prefix 를 비교한다. prefix 로 시작하면 0.
+     */
+    private int comparePrefix(int index, String prefix) {
+        int start = keyOffsets[index];
+        int length = keyOffsets[index + 1] - start;
+        int n = Math.min(length, prefix.length());
+        for (int i = 0; i < n; i++) {
+            int cmp = Character.compare(Character.toLowerCase(keys[start + i]), prefix.charAt(i));
+            if (cmp != 0) return cmp;
+        }
+        return length < prefix.length() ? -1 : 0;
+    }
+
+    private int compareKey(int index, Candidate candidate) {
+        int start = keyOffsets[index];
+        int length = keyOffsets[index + 1] - start;
+        String key = candidate.key();
+        int n = Math.min(length, key.length());
+        for (int i = 0; i < n; i++) {
+            int cmp = Character.compare(Character.toLowerCase(keys[start + i]), key.charAt(i));
+            if (cmp != 0) return cmp;
+        }
+        if (length != key.length()) return Integer.compare(length, key.length());
+        return Long.compare(uids[index], candidate.uid());
+    }
+
+    private int compareIndex(int a, int b) {
+        int cmp = Long.compare(weights[a], weights[b]);
+        return cmp != 0 ? cmp : Long.compare(uids[a], uids[b]);
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        return compareIndex(a, b) >= 0 ? a : b;
+    }
+
+    private int[] buildTree() {
+        int size = uids.length;
+        int[] nodes = new int[size * 2];
+        for (int i = 0; i < size; i++) nodes[size + i] = i;
+        for (int i = size - 1; i > 0; i--) nodes[i] = better(nodes[i * 2], nodes[i * 2 + 1]);
+        return nodes;
+    }
+
+    /**
+     * [from, to) 구간에서 가중치가 가장 큰 위치
+     */
+    private int argMax(int from, int to) {
+        int size = size();
+        int best = -1;
+        for (int l = from + size, r = to + size; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) best = better(best, tree[l++]);
+            if ((r & 1) == 1) best = better(best, tree[--r]);
+        }
+        return best;
+    }
+
+    /**
+     * 사전에 넣을 항목 (uid, 원본 제목, 가중치)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+
+        private final long uid;
+        private final String title;
+        private final long weight;
+    }
+
+    /**
+     * @param key 정규화한 제목
+     * @param stored 키 배열에 저장할 값 (원본 제목 또는 키)
+     * @param title 따로 저장할 원본 제목. 저장하지 않으면 빈 문자열
+     */
+    private record Candidate(long uid, String key, String stored, String title, long weight) {
+
+        static Candidate of(long uid, String title, long weight) {
+            String original = title == null ? "" : title;
+            String key = normalize(original);
+            return lowerCharacters(original).equals(key)
+                    ? new Candidate(uid, key, original, "", weight)
+                    : new Candidate(uid, key, key, original, weight);
+        }
+
+        private static String lowerCharacters(String text) {
+            char[] chars = text.toCharArray();
+            for (int i = 0; i < chars.length; i++) chars[i] = Character.toLowerCase(chars[i]);
+            return new String(chars);
+        }
+    }
+
+    /**
+     * uid 별 가중치 증가분. 항목마다 Map 을 조회하면 uid 를 박싱하게 되므로 정렬된 배열에서 찾는다.
+     */
+    private static class Deltas {
+
+        private final long[] uids;
+        private final long[] values;
+
+        Deltas(Map<Long, Long> deltas) {
+            uids = deltas.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            values = new long[uids.length];
+            for (int i = 0; i < uids.length; i++) values[i] = deltas.get(uids[i]);
+        }
+
+        long get(long uid) {
+            if (uids.length == 0) return 0L;
+            int index = Arrays.binarySearch(uids, uid);
+            return index >= 0 ? values[index] : 0L;
+        }
+    }
+
+    /**
+     * 키 순서대로 항목을 받아 배열을 채운다.
+     */
+    private static class Builder {
+
+        private final long[] uids;
+        private final long[] weights;
+        private final int[] keyOffsets;
+        private final int[] titleOffsets;
+        private char[] keys;
+        private char[] titles;
+        private int count;
+        private int keyLength;
+        private int titleLength;
+
+        Builder(int size, int keyCapacity, int titleCapacity) {
+            uids = new long[size];
+            weights = new long[size];
+            keyOffsets = new int[size + 1];
+            titleOffsets = new int[size + 1];
+            keys = new char[Math.max(keyCapacity, 16)];
+            titles = new char[Math.max(titleCapacity, 16)];
+        }
+
+        void add(TitleDictionary source, int index, Deltas weightDeltas) {
+            int keyStart = source.keyOffsets[index];
+            int titleStart = source.titleOffsets[index];
+            append(source.uids[index], source.weights[index], weightDeltas,
+                    source.keys, keyStart, source.keyOffsets[index + 1] - keyStart,
+                    source.titles, titleStart, source.titleOffsets[index + 1] - titleStart);
+        }
+
+        void add(Candidate candidate, Deltas weightDeltas) {
+            char[] key = candidate.stored().toCharArray();
+            char[] title = candidate.title().toCharArray();
+            append(candidate.uid(), candidate.weight(), weightDeltas, key, 0, key.length, title, 0, title.length);
+        }
+
+        private void append(long uid, long weight, Deltas weightDeltas,
+                            char[] key, int keyStart, int keyCount, char[] title, int titleStart, int titleCount) {
+            if (keyLength + keyCount > keys.length) keys = Arrays.copyOf(keys, Math.max(keys.length * 2, keyLength + keyCount));
+            if (titleLength + titleCount > titles.length) titles = Arrays.copyOf(titles, Math.max(titles.length * 2, titleLength + titleCount));
+            System.arraycopy(key, keyStart, keys, keyLength, keyCount);
+            System.arraycopy(title, titleStart, titles, titleLength, titleCount);
+            keyLength += keyCount;
+            titleLength += titleCount;
+
+            uids[count] = uid;
+            weights[count] = weight + weightDeltas.get(uid);
+            count++;
+            keyOffsets[count] = keyLength;
+            titleOffsets[count] = titleLength;
+        }
+
+        TitleDictionary build() {
+            // 삭제된 항목만큼 미리 잡은 공간을 잘라낸다.
+            return new TitleDictionary(Arrays.copyOf(keys, keyLength), trim(keyOffsets, count + 1),
+                    Arrays.copyOf(titles, titleLength), trim(titleOffsets, count + 1),
+                    trim(uids, count), trim(weights, count));
+        }
+
+        private static int[] trim(int[] array, int length) {
+            return array.length == length ? array : Arrays.copyOf(array, length);
+        }
+
+        private static long[] trim(long[] array, int length) {
+            return array.length == length ? array : Arrays.copyOf(array, length);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dev.riss.notice.search;
+
+import dev.riss.notice.domain.notice.NoticeChangedEvent;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.domain.notice.NoticeTitle;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 제목 자동완성
+ * - 기동 시 DB 의 제목과 조회수로 TitleDictionary 를 만들고, 조회는 현재 사전을 락 없이 읽는다.
+ * - 게시글 변경과 조회수 증가분은 모아 두었다가 debounce-ms 뒤에 한 번에 병합한 새 사전으로 교체한다.
+ *   (일괄 등록처럼 변경이 몰려도 사전을 매번 다시 만들지 않도록) debounce-ms 가 0 이면 바로 반영한다.
+ */
+@Slf4j
+@Component
+public class TitleSuggester implements MeterBinder {
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private final NoticeRepository noticeRepository;
+    private final TaskScheduler taskScheduler;
+    private final long debounceMillis;
+
+    private volatile TitleDictionary dictionary = TitleDictionary.EMPTY;
+    private volatile boolean ready;
+
+    // 사전 교체는 한 번에 하나만
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 아래 필드는 this 로 동기화
+    private Map<Long, TitleDictionary.Entry> pendingUpserts = new LinkedHashMap<>();
+    private Set<Long> pendingRemovals = new HashSet<>();
+    private Map<Long, Long> pendingViews = new HashMap<>();
+    private boolean flushScheduled;
+
+    public TitleSuggester(NoticeRepository noticeRepository,
+                          TaskScheduler taskScheduler,
+                          @Value("${notice.suggest.debounce-ms:500}") long debounceMillis) {
+        this.noticeRepository = noticeRepository;
+        this.taskScheduler = taskScheduler;
+        this.debounceMillis = debounceMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notice.suggest.dictionary.size", this, suggester -> suggester.dictionary.size())
+                .description("자동완성 사전의 게시글 수")
+                .register(registry);
+        Gauge.builder("notice.suggest.dictionary.bytes", this, suggester -> suggester.dictionary.sizeInBytes())
+                .description("자동완성 사전 배열 크기")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<TitleSuggestion> suggest(String prefix, int size) {
+        return dictionary.suggest(prefix, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.nanoTime();
+        rebuildLock.lock();
+        try {
+            List<TitleDictionary.Entry> entries = new ArrayList<>();
+            long lastUid = 0L;
+            while (true) {
+                List<NoticeTitle> titles = noticeRepository.findTitlesByUidAfter(lastUid, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                if (titles.isEmpty()) break;
+                lastUid = titles.get(titles.size() - 1).getUid();
+                for (NoticeTitle title : titles) {
+                    entries.add(new TitleDictionary.Entry(title.getUid(), title.getTitle(), title.getViews() == null ? 0L : title.getViews()));
+                }
+            }
+            dictionary = TitleDictionary.build(entries);
+            ready = true;
+        } finally {
+            rebuildLock.unlock();
+        }
+        // 불러오는 동안 쌓인 변경 반영
+        flush();
+        log.info("제목 자동완성 사전을 생성했습니다. 게시글 수: {}, 크기: {} bytes, 소요 시간: {}ms",
+                dictionary.size(), dictionary.sizeInBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        synchronized (this) {
+            if (event.getType() == NoticeChangedEvent.Type.DELETED) {
+                pendingUpserts.remove(event.getUid());
+                pendingRemovals.add(event.getUid());
+            } else {
+                // 조회수는 모르므로 기존 값을 이어 쓴다. (새 게시글은 0)
+                pendingUpserts.put(event.getUid(), new TitleDictionary.Entry(event.getUid(), event.getTitle(), -1L));
+            }
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * DB 에 반영된 조회수 증가분을 가중치에 더한다.
+     */
+    public void addViews(Map<Long, Long> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) return;
+        synchronized (this) {
+            viewCountDeltas.forEach((uid, delta) -> pendingViews.merge(uid, delta, Long::sum));
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (debounceMillis <= 0) {
+            flush();
+            return;
+        }
+        synchronized (this) {
+            if (flushScheduled) return;
+            flushScheduled = true;
+        }
+        taskScheduler.schedule(this::flush, Instant.now().plus(Duration.ofMillis(debounceMillis)));
+    }
+
+    private void flush() {
+        rebuildLock.lock();
+        try {
+            // 사전을 불러오기 전이면 load() 가 끝난 뒤 반영한다.
+            if (!ready) return;
+
+            Map<Long, TitleDictionary.Entry> upserts;
+            Set<Long> removals;
+            Map<Long, Long> views;
+            synchronized (this) {
+                flushScheduled = false;
+                if (pendingUpserts.isEmpty() && pendingRemovals.isEmpty() && pendingViews.isEmpty()) return;
+                upserts = pendingUpserts;
+                removals = pendingRemovals;
+                views = pendingViews;
+                pendingUpserts = new LinkedHashMap<>();
+                pendingRemovals = new HashSet<>();
+                pendingViews = new HashMap<>();
+            }
+
+            long[] removedUids = removals.stream().mapToLong(Long::longValue).sorted().toArray();
+            dictionary = dictionary.merge(upserts.values(), removedUids, views);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package dev.riss.notice.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TitleSuggestion {
+
+    private final long uid;
+    private final String title;
+    private final long views;
+}
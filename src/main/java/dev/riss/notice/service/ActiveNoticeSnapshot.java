@@ -0,0 +1,240 @@
+package dev.riss.notice.service;
+
+import dev.riss.notice.domain.notice.NoticeChangedEvent;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.domain.notice.NoticeSummary;
+import dev.riss.notice.web.dto.NoticeCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 현재 게시 중인 게시글 목록의 불변 스냅샷
+ * - 읽기는 volatile 로 현재 스냅샷을 가져와 subList 만 하므로 락도, DB 조회도 없다.
+ * - 게시글 등록/수정/삭제가 커밋되면 이전 스냅샷을 복사해 해당 게시글만 빼고/끼워 넣어 새 스냅샷을 만든다. (트랜잭션 단위로 한 번)
+ * - 게시 기간(startAt <= now < endAt)에 해당하는 게시글만 보여준다. 게시 시작 전인 게시글도 entries 에 들고 있다가,
+ *   가장 가까운 게시 시작/종료 시각에 타이머를 걸어 그 시각이 지나면 목록을 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveNoticeSnapshot {
+
+    // 최신순 (createdAt DESC, uid DESC)
+    private static final Comparator<NoticeSummary> ORDER = Comparator
+            .comparing(NoticeSummary::getCreatedAt)
+            .thenComparing(NoticeSummary::getUid)
+            .reversed();
+
+    private final NoticeRepository noticeRepository;
+    private final TaskScheduler taskScheduler;
+
+    // 재기동하면 version 이 다시 1 부터 시작하므로 ETag 에 기동 시각을 함께 넣는다.
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, NoticeSummary> entries = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(0L, List.of(), false);
+    private ScheduledFuture<?> refreshTask;
+    private LocalDateTime refreshAt;
+
+    public boolean isReady() {
+        return snapshot.ready;
+    }
+
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * 현재 스냅샷의 ETag. 같은 version 이면 같은 목록이므로 페이지(page, cursor)마다 따로 만들지 않는다.
+     * 같은 값으로 원본/gzip 응답을 모두 검증하므로 weak
+     * @return 스냅샷이 준비되지 않았으면 null
+     */
+    public String getETag() {
+        Snapshot current = snapshot;
+        return current.ready ? "W/\"" + epoch + "-" + current.version + "\"" : null;
+    }
+
+    public List<NoticeSummary> findPage(int pageNo, int pageSize) {
+        List<NoticeSummary> notices = snapshot.notices;
+        long from = (long) pageNo * pageSize;
+        if (pageNo < 0 || from >= notices.size()) return List.of();
+        return notices.subList((int) from, (int) Math.min(notices.size(), from + pageSize));
+    }
+
+    /**
+     * cursor 다음 게시글부터 최대 limit 개를 반환한다. cursor 가 null 이면 처음부터 반환한다.
+     */
+    public List<NoticeSummary> findAfter(NoticeCursor cursor, int limit) {
+        List<NoticeSummary> notices = snapshot.notices;
+        int from = 0;
+        if (cursor != null) {
+            int index = Collections.binarySearch(notices, new NoticeSummary(cursor.getUid(), null, cursor.getCreatedAt()), ORDER);
+            from = index >= 0 ? index + 1 : -(index + 1);
+        }
+        return notices.subList(from, Math.min(notices.size(), from + limit));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        writeLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            entries.clear();
+            for (NoticeSummary summary : noticeRepository.findSchedulesByEndAtAfter(now)) {
+                entries.put(summary.getUid(), summary);
+            }
+
+            List<NoticeSummary> notices = new ArrayList<>();
+            for (NoticeSummary summary : entries.values()) {
+                if (isVisible(summary, now)) notices.add(summary);
+            }
+            notices.sort(ORDER);
+            publish(notices, now);
+            log.info("게시 중인 게시글 스냅샷을 생성했습니다. 게시글 수: {}", notices.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 발생한 변경은 모아 두었다가 커밋 후 한 번에 반영한다. (일괄 등록 시 게시글마다 스냅샷을 복사하지 않도록)
+     * 트랜잭션이 없으면 바로 반영한다.
+     */
+    @EventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(event));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<NoticeChangedEvent> pending = (List<NoticeChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<NoticeChangedEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ActiveNoticeSnapshot.this);
+                    if (status == STATUS_COMMITTED) apply(events);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    /**
+     * 변경을 한 번에 반영한다. (다른 노드의 변경을 반영할 때는 NoticeChangeSync 가 직접 부른다)
+     */
+    void apply(List<NoticeChangedEvent> events) {
+        writeLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> removed = new HashSet<>();
+            Map<Long, NoticeSummary> added = new LinkedHashMap<>();
+            for (NoticeChangedEvent event : events) {
+                if (entries.remove(event.getUid()) != null) removed.add(event.getUid());
+                added.remove(event.getUid());
+
+                NoticeSummary summary = event.getType() == NoticeChangedEvent.Type.DELETED ? null : event.toNoticeSummary();
+                if (summary != null && summary.getEndAt().isAfter(now)) entries.put(summary.getUid(), summary);
+                if (summary != null && isVisible(summary, now)) added.put(summary.getUid(), summary);
+            }
+            if (!snapshot.ready) return;
+
+            List<NoticeSummary> notices = new ArrayList<>(snapshot.notices);
+            if (!removed.isEmpty()) notices.removeIf(notice -> removed.contains(notice.getUid()));
+            if (added.size() == 1) {
+                NoticeSummary summary = added.values().iterator().next();
+                int index = Collections.binarySearch(notices, summary, ORDER);
+                notices.add(index >= 0 ? index : -(index + 1), summary);
+            } else if (!added.isEmpty()) {
+                notices.addAll(added.values());
+                notices.sort(ORDER);
+            }
+            publish(notices, now);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void refresh() {
+        writeLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            entries.values().removeIf(summary -> !summary.getEndAt().isAfter(now));
+
+            // 게시가 시작된 게시글이 끼어들 수 있으므로 entries 에서 다시 만든다. (entries 는 만료되지 않은 게시글뿐이다)
+            List<NoticeSummary> notices = new ArrayList<>();
+            for (NoticeSummary summary : entries.values()) {
+                if (isVisible(summary, now)) notices.add(summary);
+            }
+            notices.sort(ORDER);
+            refreshAt = null;
+            publish(notices, now);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isVisible(NoticeSummary summary, LocalDateTime now) {
+        return !summary.getStartAt().isAfter(now) && summary.getEndAt().isAfter(now);
+    }
+
+    private void publish(List<NoticeSummary> notices, LocalDateTime now) {
+        snapshot = new Snapshot(snapshot.version + 1, Collections.unmodifiableList(notices), true);
+        scheduleRefresh(now);
+    }
+
+    private void scheduleRefresh(LocalDateTime now) {
+        LocalDateTime next = null;
+        for (NoticeSummary summary : entries.values()) {
+            next = earlier(next, summary.getStartAt(), now);
+            next = earlier(next, summary.getEndAt(), now);
+        }
+        if (Objects.equals(next, refreshAt)) return;
+
+        if (refreshTask != null) refreshTask.cancel(false);
+        refreshAt = next;
+        refreshTask = next == null ? null : taskScheduler.schedule(this::refresh, next.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static LocalDateTime earlier(LocalDateTime next, LocalDateTime candidate, LocalDateTime now) {
+        if (!candidate.isAfter(now)) return next;
+        return next == null || candidate.isBefore(next) ? candidate : next;
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final List<NoticeSummary> notices;
+        private final boolean ready;
+
+        private Snapshot(long version, List<NoticeSummary> notices, boolean ready) {
+            this.version = version;
+            this.notices = notices;
+            this.ready = ready;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.riss.notice.service;
+
+import dev.riss.notice.exception.ApiException;
+import dev.riss.notice.storage.AttachmentStorage;
+import dev.riss.notice.storage.StoredFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 첨부파일 파일 I/O 를 attachmentIoExecutor 에서 실행한다.
+ * (@Async 는 다른 빈에서 public 메서드를 호출해야 적용되므로 NoticeService 와 분리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentIoService {
+
+    private final AttachmentStorage attachmentStorage;
+
+    @Async("attachmentIoExecutor")
+    public CompletableFuture<StoredFile> store(MultipartFile file, String fileName) {
+        try {
+            return CompletableFuture.completedFuture(attachmentStorage.store(file, fileName));
+        } catch (IOException e) {
+            throw new ApiException("첨부파일 업로드에 실패했습니다. 파일 제목: " + file.getOriginalFilename());
+        }
+    }
+
+    @Async("attachmentIoExecutor")
+    public CompletableFuture<Void> release(String key) {
+        try {
+            attachmentStorage.release(key);
+        } catch (IOException e) {
+            log.error("첨부파일 삭제에 실패했습니다. 키: {}", key, e);
+            throw new ApiException("해당 파일 삭제에 실패했습니다. 파일이름: " + key);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.riss.notice.service;
+
+import dev.riss.notice.exception.BusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스당 동시 업로드 요청 수와 처리 중인 업로드 바이트 수를 제한한다.
+ * 한도를 넘으면 기다리지 않고 바로 BusyException 을 던진다.
+ */
+@Component
+public class AttachmentUploadLimiter {
+
+    private final int maxConcurrentUploads;
+    private final Semaphore uploadPermits;
+    private final long maxInFlightBytes;
+    private final AtomicLong inFlightBytes = new AtomicLong();
+
+    public AttachmentUploadLimiter(@Value("${notice.attachment.io.max-concurrent-uploads:16}") int maxConcurrentUploads,
+                                   @Value("${notice.attachment.io.max-in-flight-bytes:512MB}") DataSize maxInFlightBytes) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+        this.uploadPermits = new Semaphore(maxConcurrentUploads);
+        this.maxInFlightBytes = maxInFlightBytes.toBytes();
+    }
+
+    public Permit acquire(long bytes) {
+        if (!uploadPermits.tryAcquire()) {
+            throw new BusyException("동시 업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long current;
+        do {
+            current = inFlightBytes.get();
+            // 한도보다 큰 파일 하나는 다른 업로드가 없을 때만 허용
+            if (current > 0 && current + bytes > maxInFlightBytes) {
+                uploadPermits.release();
+                throw new BusyException("처리 중인 업로드 용량이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } while (!inFlightBytes.compareAndSet(current, current + bytes));
+
+        return new Permit(bytes);
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    public int getActiveUploads() {
+        return maxConcurrentUploads - uploadPermits.availablePermits();
+    }
+
+    public class Permit implements AutoCloseable {
+        private final long bytes;
+        private boolean released;
+
+        private Permit(long bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void close() {
+            if (released) return;
+            released = true;
+            inFlightBytes.addAndGet(-bytes);
+            uploadPermits.release();
+        }
+    }
+}
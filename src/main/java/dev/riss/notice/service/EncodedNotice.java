@@ -0,0 +1,101 @@
+package dev.riss.notice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.riss.notice.util.ResponseUtil;
+import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 게시글 단건 조회 캐시 항목
+ * 응답(ResponseDto<NoticeRetrieveDto>) 을 한 번 직렬화해 views 값 앞(head)과 뒤(tail)로 나눠 두고,
+ * 조회할 때는 그 사이에 현재 조회수만 끼워 넣어 다시 직렬화하지 않는다.
+ */
+@Getter
+public class EncodedNotice {
+
+    // 직렬화 결과에서 views 위치를 찾기 위한 값 (실제 조회수로는 나올 수 없다)
+    private static final long VIEWS_PLACEHOLDER = Long.MIN_VALUE;
+    private static final byte[] VIEWS_FIELD = "\"views\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VIEWS_MARKER = ("\"views\":" + VIEWS_PLACEHOLDER).getBytes(StandardCharsets.UTF_8);
+
+    private final NoticeRetrieveDto notice;
+    private final byte[] head;
+    private final byte[] tail;
+
+    private EncodedNotice(NoticeRetrieveDto notice, byte[] head, byte[] tail) {
+        this.notice = notice;
+        this.head = head;
+        this.tail = tail;
+    }
+
+    public static EncodedNotice encode(NoticeRetrieveDto notice, ObjectMapper objectMapper) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(ResponseUtil.success(notice.toBuilder().views(VIEWS_PLACEHOLDER).build()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 응답을 직렬화하지 못했습니다. uid: " + notice.getUid(), e);
+        }
+
+        // 문자열 값 안의 따옴표는 \" 로 escape 되므로 "views": 는 필드 이름으로만 나온다.
+        int index = indexOf(json, VIEWS_MARKER);
+        if (index < 0) throw new IllegalStateException("게시글 응답에서 views 필드를 찾지 못했습니다. uid: " + notice.getUid());
+
+        int headLength = index + VIEWS_FIELD.length;
+        int tailStart = index + VIEWS_MARKER.length;
+        byte[] head = new byte[headLength];
+        byte[] tail = new byte[json.length - tailStart];
+        System.arraycopy(json, 0, head, 0, headLength);
+        System.arraycopy(json, tailStart, tail, 0, tail.length);
+        return new EncodedNotice(notice, head, tail);
+    }
+
+    /**
+     * 직렬화해 둔 본문은 그대로 두고 캐시된 조회수(DB 기준)만 바꾼다.
+     */
+    public EncodedNotice withViews(long views) {
+        return new EncodedNotice(notice.toBuilder().views(views).build(), head, tail);
+    }
+
+    /**
+     * views 를 끼워 넣은 응답 본문과 수정 시각으로 만든 weak ETag, Last-Modified
+     * (조회수는 수정 시각에 포함되지 않으므로 weak)
+     */
+    public EncodedResponse toResponse(long views) {
+        byte[] digits = Long.toString(views).getBytes(StandardCharsets.US_ASCII);
+        byte[] json = new byte[head.length + digits.length + tail.length];
+        System.arraycopy(head, 0, json, 0, head.length);
+        System.arraycopy(digits, 0, json, head.length, digits.length);
+        System.arraycopy(tail, 0, json, head.length + digits.length, tail.length);
+
+        LocalDateTime updatedAt = notice.getUpdatedAt();
+        if (updatedAt == null) return new EncodedResponse(json, null, null, -1L);
+        return new EncodedResponse(json, null, toWeakETag(updatedAt), updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public int size() {
+        return head.length + tail.length;
+    }
+
+    // Last-Modified 는 초 단위이므로 ETag 는 DB 에 저장된 정밀도(마이크로초)로 만든다.
+    private static String toWeakETag(LocalDateTime updatedAt) {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+        return "W/\"" + Long.toString(micros, 36) + "\"";
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
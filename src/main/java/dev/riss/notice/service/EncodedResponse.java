@@ -0,0 +1,20 @@
+package dev.riss.notice.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문과 조건부 조회 검증자
+ * - json: UTF-8 JSON (ResponseDto 를 Spring MVC 와 같은 ObjectMapper 로 직렬화한 것과 같다)
+ * - gzip: json 을 gzip 으로 압축한 것. 작아서 압축하지 않았으면 null
+ * - etag, lastModified: 없으면 null, -1
+ */
+@Getter
+@AllArgsConstructor
+public class EncodedResponse {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final long lastModified;
+}
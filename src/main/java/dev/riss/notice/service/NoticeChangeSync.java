@@ -0,0 +1,177 @@
+package dev.riss.notice.service;
+
+import dev.riss.notice.domain.notice.Notice;
+import dev.riss.notice.domain.notice.NoticeChange;
+import dev.riss.notice.domain.notice.NoticeChangeLogRepository;
+import dev.riss.notice.domain.notice.NoticeChangedEvent;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.search.NoticeSearchIndex;
+import dev.riss.notice.search.TitleSuggester;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 노드로 띄울 때 다른 노드에서 일어난 게시글 변경을 이 노드의 캐시, 스냅샷, 색인에 반영한다. (notice.change-log.enabled=true)
+ * - 게시글 등록/수정/삭제마다 notice_change_log 에 (게시글 uid, 노드 id) 를 쓴다. 첨부파일 변경은 게시글 수정 시각을 바꾸므로 수정으로 기록된다.
+ *   NoticeChangedEvent 를 엔티티 flush 중에 받아 같은 트랜잭션에서 쓰므로, 롤백되면 기록도 남지 않는다.
+ * - 각 노드는 poll-interval-ms 마다 마지막으로 읽은 id 다음 기록을 읽고, 다른 노드가 바꾼 게시글만 primary 에서 다시 읽어
+ *   상세 캐시 제거, 게시 중 목록 스냅샷/검색 색인/자동완성 사전 갱신을 한다. (게시글이 없으면 삭제로 반영)
+ *   기록에는 uid 만 있고 항상 현재 값을 다시 읽으므로, 순서가 바뀌거나 여러 번 반영해도 결과가 같다.
+ * - id 는 커밋 순서가 아니라 INSERT 순서로 매겨지므로, 건너뛴 id 는 늦게 커밋될 기록으로 보고 GAP_TIMEOUT 동안 다시 찾는다.
+ * 다른 노드의 변경은 poll 간격 + 조회 시간 안에 반영되고, 기록은 retention 이 지나면 지운다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("notice.change-log.enabled")
+public class NoticeChangeSync {
+
+    // 트랜잭션이 id 를 받고 커밋하기까지 걸릴 수 있는 최대 시간. 이보다 오래 비어 있는 id 는 롤백된 것으로 본다.
+    private static final Duration GAP_TIMEOUT = Duration.ofMinutes(1);
+    private static final int MAX_GAPS = 1000;
+
+    private final NoticeChangeLogRepository changeLogRepository;
+    private final NoticeRepository noticeRepository;
+    private final NoticeDetailCache noticeDetailCache;
+    private final ActiveNoticeSnapshot activeNoticeSnapshot;
+    private final NoticeSearchIndex noticeSearchIndex;
+    private final TitleSuggester titleSuggester;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    // 이 노드(프로세스) 를 구분하는 값. 자기가 쓴 기록은 커밋 후 이벤트로 이미 반영했으므로 건너뛴다.
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReentrantLock pollLock = new ReentrantLock();
+    // 아직 커밋되지 않았을 수 있는 id -> 더 기다리지 않을 시각 (System.nanoTime)
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    private long lastId;
+
+    public NoticeChangeSync(NoticeChangeLogRepository changeLogRepository,
+                            NoticeRepository noticeRepository,
+                            NoticeDetailCache noticeDetailCache,
+                            ActiveNoticeSnapshot activeNoticeSnapshot,
+                            NoticeSearchIndex noticeSearchIndex,
+                            TitleSuggester titleSuggester,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${notice.change-log.batch-size:1000}") int batchSize,
+                            @Value("${notice.change-log.retention:1h}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.noticeRepository = noticeRepository;
+        this.noticeDetailCache = noticeDetailCache;
+        this.activeNoticeSnapshot = activeNoticeSnapshot;
+        this.noticeSearchIndex = noticeSearchIndex;
+        this.titleSuggester = titleSuggester;
+        // readOnly 가 아니므로 replica 를 쓰더라도 primary 에서 읽는다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 스냅샷, 색인은 ApplicationReadyEvent 에서 DB 를 읽어 만든다. 그보다 먼저 위치를 잡아 두어 그 사이의 변경을 놓치지 않는다. (다시 반영해도 결과는 같다)
+     */
+    @PostConstruct
+    public void start() {
+        lastId = changeLogRepository.findLastId();
+        log.info("게시글 변경 기록을 이어 읽습니다. 노드: {}, 시작 id: {}", nodeId, lastId);
+    }
+
+    @EventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        changeLogRepository.append(event.getUid(), nodeId);
+    }
+
+    @Scheduled(fixedDelayString = "${notice.change-log.poll-interval-ms:1000}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            long now = System.nanoTime();
+            List<NoticeChange> changes = new ArrayList<>(changeLogRepository.findByIdIn(gaps.keySet()));
+            List<NoticeChange> next = changeLogRepository.findAfter(lastId, batchSize);
+            changes.addAll(next);
+
+            Set<Long> noticeUids = new LinkedHashSet<>();
+            for (NoticeChange change : changes) {
+                if (!nodeId.equals(change.getOrigin())) noticeUids.add(change.getNoticeUid());
+            }
+            if (!noticeUids.isEmpty()) apply(noticeUids);
+
+            // 반영한 뒤에 위치를 옮긴다. (실패하면 다음 poll 에서 다시 읽는다)
+            for (NoticeChange change : changes) gaps.remove(change.getId());
+            for (NoticeChange change : next) {
+                for (long id = Math.max(lastId + 1, change.getId() - MAX_GAPS); id < change.getId(); id++) {
+                    gaps.put(id, now + GAP_TIMEOUT.toNanos());
+                }
+                lastId = change.getId();
+            }
+            expireGaps(now);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void apply(Set<Long> noticeUids) {
+        Map<Long, Notice> notices = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Notice notice : noticeRepository.findAllById(noticeUids)) notices.put(notice.getUid(), notice);
+        });
+
+        List<NoticeChangedEvent> events = new ArrayList<>();
+        for (Long noticeUid : noticeUids) {
+            Notice notice = notices.get(noticeUid);
+            events.add(notice != null ? NoticeChangedEvent.of(NoticeChangedEvent.Type.UPDATED, notice)
+                    : new NoticeChangedEvent(NoticeChangedEvent.Type.DELETED, noticeUid, null, null, null, null, null));
+        }
+
+        for (NoticeChangedEvent event : events) noticeDetailCache.invalidate(event.getUid());
+        activeNoticeSnapshot.apply(events);
+        for (NoticeChangedEvent event : events) {
+            noticeSearchIndex.onNoticeChanged(event);
+            titleSuggester.onNoticeChanged(event);
+        }
+        log.debug("다른 노드의 게시글 변경을 반영했습니다. 게시글 수: {}", events.size());
+    }
+
+    private void expireGaps(long now) {
+        gaps.values().removeIf(deadline -> deadline - now < 0);
+        // 오래된 id 부터 버린다.
+        Iterator<Long> iterator = gaps.keySet().iterator();
+        while (gaps.size() > MAX_GAPS) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 보관 기간(notice.change-log.retention) 이 지난 기록을 지운다. 그보다 오래 멈춰 있던 노드는 재기동하면 DB 에서 다시 만든다.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void deleteExpired() {
+        int deleted = changeLogRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) log.debug("보관 기간이 지난 게시글 변경 기록을 지웠습니다. 건수: {}", deleted);
+    }
+}
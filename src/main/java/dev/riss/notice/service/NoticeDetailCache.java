@@ -0,0 +1,147 @@
+package dev.riss.notice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.riss.notice.datasource.ReadWriteRoutingDataSource;
+import dev.riss.notice.util.TransactionUtil;
+import dev.riss.notice.web.dto.response.CacheStatsDto;
+import dev.riss.notice.web.dto.response.NoticeAttachmentDto;
+import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회 결과(NoticeRetrieveDto) 캐시
+ * - W-TinyLFU(Caffeine) 기반으로, 대략적인 메모리 크기(weight) 한도와 TTL 을 넘으면 제거한다.
+ * - 캐시된 조회수는 DB 기준 값이며, 아직 동기화되지 않은 증가분은 조회 시 ViewCounter 값을 더해서 내려준다.
+ *   조회수 DB 동기화가 커밋되면 해당 게시글은 캐시에서 제거하고 다시 읽는다.
+ * - replica 를 쓰면 변경(조회수 DB 동기화 포함)이 커밋된 게시글은 replica max-lag 동안 primary 에서 읽어 캐시에 올린다.
+ *   (replica 의 변경 전 값이 캐시되거나, 동기화된 조회수가 줄어 보이지 않도록)
+ * - 응답을 직렬화해 둔 바이트(EncodedNotice)를 함께 들고 있어, 조회 시 조회수만 끼워 넣고 다시 직렬화하지 않는다.
+ */
+@Component
+public class NoticeDetailCache implements MeterBinder {
+
+    private final Cache<Long, EncodedNotice> cache;
+    private final ObjectMapper objectMapper;
+    // replica 를 쓸 때, 최근 max-lag 안에 변경이 커밋된 게시글 uid. 이 게시글은 replica 가 변경 전 값을 가지고 있을 수 있으므로 primary 에서 읽는다.
+    private final Cache<Long, Boolean> recentWrites;
+    private final TransactionTemplate primaryReadTransaction;
+
+    public NoticeDetailCache(@Value("${notice.cache.detail.maximum-weight:16777216}") long maximumWeight,
+                             @Value("${notice.cache.detail.ttl:5m}") Duration ttl,
+                             ObjectMapper objectMapper,
+                             @Value("${notice.datasource.replica.url:}") String replicaUrl,
+                             @Value("${notice.datasource.replica.max-lag:5s}") Duration replicaMaxLag,
+                             PlatformTransactionManager transactionManager) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(NoticeDetailCache::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.objectMapper = objectMapper;
+        this.recentWrites = replicaUrl.isEmpty() ? null
+                : Caffeine.newBuilder().expireAfterWrite(replicaMaxLag).build();
+        // 호출한 쪽의 트랜잭션이 이미 replica 커넥션을 얻었을 수 있으므로 새 트랜잭션에서 읽는다.
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryReadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * cache.gets{result=hit|miss}, cache.evictions, cache.size 등 (cache=notice.detail)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "notice.detail");
+    }
+
+    public NoticeRetrieveDto get(Long noticeUid, Function<Long, NoticeRetrieveDto> loader) {
+        return getEncoded(noticeUid, loader).getNotice();
+    }
+
+    /**
+     * 최근 max-lag 안에 변경이 커밋된 게시글은 primary 에서 읽어 캐시에 올린다. (replica 를 쓰는 경우)
+     * replica 에서 읽는 도중 변경이 커밋되면 읽은 값은 캐시에 올리지 않고 그대로 돌려준다. (그보다 늦은 변경은 커밋 후 제거로 지워진다)
+     */
+    public EncodedNotice getEncoded(Long noticeUid, Function<Long, NoticeRetrieveDto> loader) {
+        EncodedNotice[] uncached = new EncodedNotice[1];
+        EncodedNotice encoded = cache.get(noticeUid, key -> {
+            if (isRecentlyWritten(key)) {
+                NoticeRetrieveDto notice = ReadWriteRoutingDataSource.readFromPrimary(
+                        () -> primaryReadTransaction.execute(status -> loader.apply(key)));
+                return EncodedNotice.encode(notice, objectMapper);
+            }
+            EncodedNotice loaded = EncodedNotice.encode(loader.apply(key), objectMapper);
+            if (!isRecentlyWritten(key)) return loaded;
+            uncached[0] = loaded;
+            return null;
+        });
+        return encoded != null ? encoded : uncached[0];
+    }
+
+    private boolean isRecentlyWritten(Long noticeUid) {
+        return recentWrites != null && recentWrites.getIfPresent(noticeUid) != null;
+    }
+
+    /**
+     * 캐시에서 바로 제거하고, 현재 트랜잭션이 커밋된 후 한 번 더 제거한다.
+     * (커밋 전에 다른 요청이 변경 전 데이터를 다시 캐시에 올리는 경우 방지)
+     * replica 를 쓰면 커밋 후에도 replica 에서 변경 전 값을 읽을 수 있으므로, 커밋 시각부터 max-lag 동안은 primary 에서 읽는다.
+     */
+    public void invalidate(Long noticeUid) {
+        cache.invalidate(noticeUid);
+        TransactionUtil.afterCommit(() -> {
+            if (recentWrites != null) recentWrites.put(noticeUid, Boolean.TRUE);
+            cache.invalidate(noticeUid);
+        });
+    }
+
+    /**
+     * 조회수 증가분이 DB 에 반영(커밋)된 게시글을 캐시에서 제거한다.
+     * 캐시된 조회수에 증가분을 더하면, 커밋 직후 DB 에서 읽어 이미 증가분이 포함된 값에 한 번 더 더해질 수 있으므로 더하지 않고 제거한다.
+     * (읽는 중인 항목은 읽기가 끝난 뒤 제거된다)
+     */
+    public void invalidateAll(Collection<Long> noticeUids) {
+        if (recentWrites != null) for (Long noticeUid : noticeUids) recentWrites.put(noticeUid, Boolean.TRUE);
+        cache.invalidateAll(noticeUids);
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .estimatedSize(cache.estimatedSize())
+                .build();
+    }
+
+    private static int weigh(Long noticeUid, EncodedNotice encoded) {
+        NoticeRetrieveDto dto = encoded.getNotice();
+        long chars = length(dto.getTitle()) + length(dto.getContent()) + length(dto.getAuthor());
+        for (NoticeAttachmentDto attachmentDto : dto.getNoticeAttachmentDtoList()) {
+            chars += length(attachmentDto.getOriginFileName()) + length(attachmentDto.getFileUrl());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, 128 + chars * 2 + encoded.size());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
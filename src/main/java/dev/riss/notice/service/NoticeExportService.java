@@ -0,0 +1,206 @@
+package dev.riss.notice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.riss.notice.domain.notice.Attachment;
+import dev.riss.notice.domain.notice.AttachmentRepository;
+import dev.riss.notice.domain.notice.Notice;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.web.dto.response.NoticeExportDto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 전체 게시글 내보내기 (NDJSON / CSV)
+ * - 읽기 전용 트랜잭션에서 게시글을 커서로 읽고(fetch size 500), CHUNK_SIZE 개씩 모아 응답에 쓴 뒤 영속성 컨텍스트를 비운다.
+ * - 첨부파일을 포함하면 청크마다 IN 쿼리 한 번으로 첨부파일 메타데이터를 읽는다.
+ * 따라서 게시글 수와 관계없이 메모리에는 청크 하나만 남는다.
+ */
+@Slf4j
+@Service
+public class NoticeExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String CSV_HEADER = "uid,title,content,author,views,startAt,endAt,createdAt,updatedAt";
+
+    private final NoticeRepository noticeRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ViewCounter viewCounter;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter objectWriter;
+
+    public NoticeExportService(NoticeRepository noticeRepository,
+                               AttachmentRepository attachmentRepository,
+                               ViewCounter viewCounter,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper) {
+        this.noticeRepository = noticeRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.viewCounter = viewCounter;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void exportNotices(NoticeExportFormat format, boolean withAttachments, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        JsonGenerator generator = objectWriter.getFactory().createGenerator(writer);
+        generator.setRootValueSeparator(null);
+
+        ChunkWriter chunkWriter = format == NoticeExportFormat.CSV
+                ? chunk -> writeCsv(chunk, writer, withAttachments)
+                : chunk -> writeNdjson(chunk, generator, writer);
+        if (format == NoticeExportFormat.CSV) writer.write(withAttachments ? CSV_HEADER + ",attachments\r\n" : CSV_HEADER + "\r\n");
+
+        long count;
+        try {
+            count = transactionTemplate.execute(status -> {
+                try (Stream<Notice> stream = noticeRepository.streamAllByOrderByUid()) {
+                    return exportChunks(stream.iterator(), withAttachments, chunkWriter);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+        writer.flush();
+        log.info("게시글 내보내기를 마쳤습니다. 형식: {}, 게시글 수: {}, 소요 시간: {}ms", format, count, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private long exportChunks(Iterator<Notice> iterator, boolean withAttachments, ChunkWriter chunkWriter) {
+        long count = 0L;
+        List<Notice> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                try {
+                    chunkWriter.write(toExportDtoList(chunk, withAttachments));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count += chunk.size();
+                chunk.clear();
+                // 이미 쓴 게시글(과 첨부파일)이 영속성 컨텍스트에 쌓이지 않도록 비운다.
+                entityManager.clear();
+            }
+        }
+        return count;
+    }
+
+    private List<NoticeExportDto> toExportDtoList(List<Notice> chunk, boolean withAttachments) {
+        Map<Long, List<NoticeExportDto.Attachment>> attachmentMap = new HashMap<>();
+        if (withAttachments) {
+            List<Long> uids = chunk.stream().map(Notice::getUid).toList();
+            for (Attachment attachment : attachmentRepository.findAllByNoticeUidIn(uids)) {
+                attachmentMap.computeIfAbsent(attachment.getNotice().getUid(), uid -> new ArrayList<>())
+                        .add(NoticeExportDto.Attachment.builder()
+                                .uid(attachment.getUid())
+                                .originFileName(attachment.getOriginFileName())
+                                .fileSize(attachment.getFileSize())
+                                .checksum(attachment.getChecksum())
+                                .build());
+            }
+        }
+
+        List<NoticeExportDto> dtoList = new ArrayList<>(chunk.size());
+        for (Notice notice : chunk) {
+            dtoList.add(NoticeExportDto.builder()
+                    .uid(notice.getUid())
+                    .title(notice.getTitle())
+                    .content(notice.getContent())
+                    .author(notice.getAuthor())
+                    .views(notice.getViews() + viewCounter.pending(notice.getUid()))
+                    .startAt(notice.getStartAt())
+                    .endAt(notice.getEndAt())
+                    .createdAt(notice.getCreatedAt())
+                    .updatedAt(notice.getUpdatedAt())
+                    .attachmentList(withAttachments ? attachmentMap.getOrDefault(notice.getUid(), List.of()) : null)
+                    .build());
+        }
+        return dtoList;
+    }
+
+    private void writeNdjson(List<NoticeExportDto> chunk, JsonGenerator generator, Writer writer) throws IOException {
+        for (NoticeExportDto dto : chunk) {
+            objectWriter.writeValue(generator, dto);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        writer.flush();
+    }
+
+    private void writeCsv(List<NoticeExportDto> chunk, Writer writer, boolean withAttachments) throws IOException {
+        for (NoticeExportDto dto : chunk) {
+            writer.write(String.valueOf(dto.getUid()));
+            writer.write(',');
+            writer.write(csv(dto.getTitle()));
+            writer.write(',');
+            writer.write(csv(dto.getContent()));
+            writer.write(',');
+            writer.write(csv(dto.getAuthor()));
+            writer.write(',');
+            writer.write(String.valueOf(dto.getViews()));
+            writer.write(',');
+            writer.write(csv(dto.getStartAt()));
+            writer.write(',');
+            writer.write(csv(dto.getEndAt()));
+            writer.write(',');
+            writer.write(csv(dto.getCreatedAt()));
+            writer.write(',');
+            writer.write(csv(dto.getUpdatedAt()));
+            if (withAttachments) {
+                writer.write(',');
+                writer.write(csv(objectWriter.writeValueAsString(dto.getAttachmentList())));
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private String csv(LocalDateTime value) {
+        return value == null ? "" : value.format(DATE_TIME_FORMATTER);
+    }
+
+    // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+    private String csv(String value) {
+        if (value == null) return "";
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(List<NoticeExportDto> chunk) throws IOException;
+    }
+}
@@ -0,0 +1,199 @@
+package dev.riss.notice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.riss.notice.domain.notice.Notice;
+import dev.riss.notice.web.dto.request.NoticeRequestDto;
+import dev.riss.notice.web.dto.response.NoticeImportResultDto;
+import dev.riss.notice.web.dto.response.NoticeImportSummaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 일괄 등록 (NDJSON 또는 JSON 배열)
+ * - 요청 본문을 한 행씩 파싱/검증하고, 유효한 행을 batch-size 개씩 모아 하나의 트랜잭션에서 JDBC batch insert 한다.
+ * - 배치가 커밋되면 해당 행들의 결과를 NDJSON 으로 바로 응답에 쓰므로, 요청/응답 전체를 메모리에 올리지 않는다.
+ * - 배치 insert 가 실패하면 그 배치만 한 행씩 다시 등록하여 실패한 행을 찾는다.
+ * - JSON 문법 오류는 이후 행의 경계를 알 수 없으므로 해당 행을 실패로 기록하고 중단한다.
+ */
+@Slf4j
+@Service
+public class NoticeImportService {
+
+    // notice 테이블의 title, content, author 컬럼 길이 (V1__create_notice_and_attachment.sql 의 VARCHAR(255))
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final int batchSize;
+
+    public NoticeImportService(EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${notice.import.batch-size:1000}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        // 결과는 배치 단위로 flush 한다.
+        this.resultWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = batchSize;
+    }
+
+    public NoticeImportSummaryDto importNotices(InputStream in, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+
+        try (JsonParser parser = objectMapper.createParser(in);
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            List<Row> batch = new ArrayList<>(batchSize);
+
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) token = parser.nextToken();
+
+            long rowNo = 0L;
+            while (token != null && token != JsonToken.END_ARRAY) {
+                rowNo++;
+                JsonNode node;
+                try {
+                    node = parser.readValueAsTree();
+                } catch (JsonProcessingException e) {
+                    write(generator, progress, NoticeImportResultDto.builder().row(rowNo).error("JSON 형식이 잘못되었습니다. " + e.getOriginalMessage()).build());
+                    break;
+                }
+
+                try {
+                    batch.add(new Row(rowNo, toNotice(node)));
+                } catch (IllegalArgumentException e) {
+                    write(generator, progress, NoticeImportResultDto.builder().row(rowNo).error(e.getMessage()).build());
+                }
+
+                if (batch.size() >= batchSize) {
+                    insert(batch, generator, progress);
+                    batch.clear();
+                }
+                try {
+                    token = parser.nextToken();
+                } catch (JsonProcessingException e) {
+                    write(generator, progress, NoticeImportResultDto.builder().row(rowNo + 1).error("JSON 형식이 잘못되었습니다. " + e.getOriginalMessage()).build());
+                    break;
+                }
+            }
+            insert(batch, generator, progress);
+
+            long elapsedNanos = System.nanoTime() - startedAt;
+            NoticeImportSummaryDto summary = NoticeImportSummaryDto.builder()
+                    .total(progress.succeeded + progress.failed)
+                    .succeeded(progress.succeeded)
+                    .failed(progress.failed)
+                    .elapsedMs(elapsedNanos / 1_000_000)
+                    .rowsPerSecond(elapsedNanos == 0 ? 0 : progress.succeeded * 1_000_000_000L / elapsedNanos)
+                    .build();
+            resultWriter.writeValue(generator, Map.of("summary", summary));
+            generator.writeRaw('\n');
+            generator.flush();
+            log.info("게시글 일괄 등록을 마쳤습니다. {}", summary);
+            return summary;
+        }
+    }
+
+    private Notice toNotice(JsonNode node) {
+        NoticeRequestDto noticeDto;
+        try {
+            noticeDto = objectMapper.treeToValue(node, NoticeRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("게시글 형식이 잘못되었습니다. " + e.getOriginalMessage());
+        }
+
+        requireText("title", noticeDto.getTitle());
+        requireText("content", noticeDto.getContent());
+        requireText("author", noticeDto.getAuthor());
+        if (noticeDto.getStartAt() == null || noticeDto.getEndAt() == null)
+            throw new IllegalArgumentException("startAt, endAt 은 필수입니다.");
+        if (!noticeDto.getStartAt().isBefore(noticeDto.getEndAt()))
+            throw new IllegalArgumentException("endAt 은 startAt 이후여야 합니다.");
+
+        return Notice.builder()
+                .title(noticeDto.getTitle())
+                .content(noticeDto.getContent())
+                .author(noticeDto.getAuthor())
+                .startAt(noticeDto.getStartAt())
+                .endAt(noticeDto.getEndAt())
+                .views(0L)
+                .attachmentList(new ArrayList<>())
+                .build();
+    }
+
+    private void requireText(String field, String value) {
+        if (value == null || value.isBlank()) throw new IllegalArgumentException(field + " 은(는) 필수입니다.");
+        if (value.length() > MAX_COLUMN_LENGTH) throw new IllegalArgumentException(field + " 은(는) " + MAX_COLUMN_LENGTH + "자를 넘을 수 없습니다.");
+    }
+
+    private void insert(List<Row> batch, JsonGenerator generator, Progress progress) throws IOException {
+        if (batch.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            for (Row row : batch) {
+                write(generator, progress, NoticeImportResultDto.builder().row(row.rowNo).uid(row.notice.getUid()).build());
+            }
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("게시글 일괄 등록 배치가 실패하여 한 행씩 다시 등록합니다. 행: {} ~ {}", batch.get(0).rowNo, batch.get(batch.size() - 1).rowNo, e);
+            for (Row row : batch) {
+                Notice notice = row.notice.toBuilder().uid(null).build();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(new Row(row.rowNo, notice))));
+                    write(generator, progress, NoticeImportResultDto.builder().row(row.rowNo).uid(notice.getUid()).build());
+                } catch (DataAccessException | PersistenceException ex) {
+                    write(generator, progress, NoticeImportResultDto.builder().row(row.rowNo).error("게시글 등록에 실패했습니다.").build());
+                }
+            }
+        }
+        generator.flush();
+    }
+
+    private void persist(List<Row> batch) {
+        for (Row row : batch) entityManager.persist(row.notice);
+        // open-in-view 는 꺼져 있어 배치(트랜잭션)마다 영속성 컨텍스트가 새로 열리지만, 커밋 시의 flush 가 방금 insert 한 엔티티를
+        // 다시 dirty checking 하지 않도록 비운다. (바깥 트랜잭션 안에서 호출되어도 엔티티가 배치마다 쌓이지 않음)
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void write(JsonGenerator generator, Progress progress, NoticeImportResultDto result) throws IOException {
+        if (result.getError() == null) progress.succeeded++;
+        else progress.failed++;
+        resultWriter.writeValue(generator, result);
+        generator.writeRaw('\n');
+    }
+
+    private record Row(long rowNo, Notice notice) {
+    }
+
+    private static class Progress {
+        private long succeeded;
+        private long failed;
+    }
+}
@@ -0,0 +1,78 @@
+package dev.riss.notice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.riss.notice.web.dto.response.ResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 목록 페이지의 직렬화된 응답(JSON, gzip) 캐시
+ * 키에 게시 중인 게시글 스냅샷의 ETag(version) 를 넣으므로, 게시글이 바뀌어 스냅샷이 새로 만들어지면
+ * 이전 항목은 다시 조회되지 않고 크기 한도에 따라 밀려난다. (따로 무효화하지 않는다)
+ */
+@Component
+public class NoticeListCache implements MeterBinder {
+
+    // 이보다 작은 본문은 압축 이득이 적어 gzip 을 만들지 않는다.
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final Cache<String, EncodedResponse> cache;
+    private final ObjectMapper objectMapper;
+
+    public NoticeListCache(@Value("${notice.cache.list.maximum-size:1024}") long maximumSize,
+                           ObjectMapper objectMapper) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * cache.gets{result=hit|miss}, cache.evictions, cache.size 등 (cache=notice.list)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "notice.list");
+    }
+
+    /**
+     * @param etag 응답을 만든 스냅샷의 ETag
+     * @param page 페이지 구분 (page 번호 또는 cursor)
+     * @param loader 캐시에 없을 때 응답을 만든다.
+     */
+    public EncodedResponse get(String etag, String page, Supplier<ResponseDto<?>> loader) {
+        return cache.get(etag + " " + page, key -> encode(loader.get(), etag));
+    }
+
+    private EncodedResponse encode(ResponseDto<?> response, String etag) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new EncodedResponse(json, json.length < GZIP_MIN_BYTES ? null : gzip(json), etag, -1L);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 목록 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -4,39 +4,54 @@ import dev.riss.notice.domain.notice.Attachment;
 import dev.riss.notice.domain.notice.AttachmentRepository;
 import dev.riss.notice.domain.notice.Notice;
 import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.domain.notice.NoticeSummary;
 import dev.riss.notice.exception.ApiException;
+import dev.riss.notice.exception.BusyException;
+import dev.riss.notice.id.IdGenerator;
+import dev.riss.notice.search.NoticeSearchIndex;
+import dev.riss.notice.search.SearchHit;
+import dev.riss.notice.search.TitleSuggester;
+import dev.riss.notice.storage.AttachmentFile;
+import dev.riss.notice.storage.AttachmentStorage;
+import dev.riss.notice.storage.StoredFile;
 import dev.riss.notice.util.ResponseUtil;
+import dev.riss.notice.util.TransactionUtil;
+import dev.riss.notice.web.dto.NoticeCursor;
 import dev.riss.notice.web.dto.UidDto;
 import dev.riss.notice.web.dto.request.AttachmentDeleteRequestDto;
 import dev.riss.notice.web.dto.request.NoticeRequestDto;
+import dev.riss.notice.web.dto.response.CacheStatsDto;
 import dev.riss.notice.web.dto.response.NoticeAttachmentDto;
 import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import dev.riss.notice.web.dto.response.NoticeSearchResultDto;
 import dev.riss.notice.web.dto.response.NoticeSimpleRetrieveDto;
+import dev.riss.notice.web.dto.response.NoticeSliceDto;
+import dev.riss.notice.web.dto.response.NoticeSuggestionDto;
 import dev.riss.notice.web.dto.response.ResponseDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -44,14 +59,26 @@ public class NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final AttachmentRepository attachmentRepository;
+    private final ViewCounter viewCounter;
+    private final NoticeDetailCache noticeDetailCache;
+    private final NoticeListCache noticeListCache;
+    private final ActiveNoticeSnapshot activeNoticeSnapshot;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentIoService attachmentIoService;
+    private final AttachmentUploadLimiter attachmentUploadLimiter;
+    private final NoticeSearchIndex noticeSearchIndex;
+    private final TitleSuggester titleSuggester;
+    private final IdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${notice.domain}")
     private String SERVER_HTTP_URL;
-    @Value("${notice.attachment.directory}")
-    private String NOTICE_ATTACHMENT_PATH;
+    @Value("${notice.attachment.max-stream-size:1GB}")
+    private DataSize MAX_STREAM_SIZE;
 
     private final int PAGE_SIZE = 10;
-    private final Map<Long, Long> viewCountCache = new ConcurrentHashMap<>();
+    private final int MAX_SEARCH_SIZE = 100;
+    private final int MAX_SUGGEST_SIZE = 20;
 
     public ResponseDto<UidDto> createNotice(NoticeRequestDto noticeDto) {
         Notice notice = Notice
@@ -70,45 +97,174 @@ public class NoticeService {
     }
 
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ResponseDto<List<NoticeSimpleRetrieveDto>> findAll(int pageNo) {
-        PageRequest pageRequest = PageRequest.of(pageNo, PAGE_SIZE);
-        Page<Notice> page = noticeRepository.findAllByEndAtAfter(LocalDateTime.now(), pageRequest);
+        List<NoticeSummary> content;
+        if (activeNoticeSnapshot.isReady()) {
+            content = activeNoticeSnapshot.findPage(pageNo, PAGE_SIZE);
+        } else {
+            PageRequest pageRequest = PageRequest.of(pageNo, PAGE_SIZE);
+            content = noticeRepository.findVisibleSummaries(LocalDateTime.now(), pageRequest).getContent();
+        }
+
+        if (content.isEmpty()) return ResponseUtil.success(new ArrayList<>());
+
+        List<NoticeSimpleRetrieveDto> resultData = content.stream().map(NoticeSummary::toNoticeSimpleRetrieveDto).collect(Collectors.toList());
+
+        return ResponseUtil.success(resultData);
+    }
+
+    /**
+     * 게시글 목록 응답의 ETag (목록을 스냅샷에서 읽는 경우에만 있고, DB 에서 읽는 경우는 null)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String findListETag() {
+        return activeNoticeSnapshot.getETag();
+    }
+
+    /**
+     * 스냅샷 기준으로 직렬화해 둔 게시글 목록 응답 (findAll, findAllByCursor 와 같은 본문)
+     * @param etag findListETag() 로 얻은 값
+     * @param pageNo
+     * @param cursor null 이면 page 번호로 조회
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EncodedResponse findEncodedAll(String etag, int pageNo, String cursor) {
+        if (cursor != null) return noticeListCache.get(etag, "cursor:" + cursor, () -> findAllByCursor(cursor));
+        return noticeListCache.get(etag, "page:" + pageNo, () -> findAll(pageNo));
+    }
 
-        if (!page.hasContent()) return ResponseUtil.success(new ArrayList<>());
-        List<Notice> content = page.getContent();
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ResponseDto<NoticeSliceDto> findAllByCursor(String cursor) {
+        NoticeCursor noticeCursor = (cursor == null || cursor.isBlank()) ? null : NoticeCursor.decode(cursor);
+
+        List<NoticeSummary> content;
+        boolean hasNext;
+        if (activeNoticeSnapshot.isReady()) {
+            List<NoticeSummary> rows = activeNoticeSnapshot.findAfter(noticeCursor, PAGE_SIZE + 1);
+            hasNext = rows.size() > PAGE_SIZE;
+            content = hasNext ? rows.subList(0, PAGE_SIZE) : rows;
+        } else {
+            PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+            LocalDateTime now = LocalDateTime.now();
+            Slice<NoticeSummary> slice = noticeCursor == null
+                    ? noticeRepository.findVisibleSummaries(now, pageRequest)
+                    : noticeRepository.findVisibleSummariesAfterCursor(now, noticeCursor.getCreatedAt(), noticeCursor.getUid(), pageRequest);
+            content = slice.getContent();
+            hasNext = slice.hasNext();
+        }
 
-        List<NoticeSimpleRetrieveDto> resultData = content.stream().map(Notice::toNoticeSimpleRetrieveDto).collect(Collectors.toList());
+        List<NoticeSimpleRetrieveDto> noticeList = content.stream().map(NoticeSummary::toNoticeSimpleRetrieveDto).collect(Collectors.toList());
 
+        String nextCursor = null;
+        if (hasNext) {
+            NoticeSummary last = content.get(content.size() - 1);
+            nextCursor = new NoticeCursor(last.getCreatedAt(), last.getUid()).encode();
+        }
+
+        NoticeSliceDto resultData = NoticeSliceDto.builder()
+                .noticeList(noticeList)
+                .nextCursor(nextCursor)
+                .build();
+        return ResponseUtil.success(resultData);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ResponseDto<List<NoticeSearchResultDto>> searchNotices(String query, int size) {
+        if (!noticeSearchIndex.isReady()) throw new BusyException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+
+        List<SearchHit> hits = noticeSearchIndex.search(query, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
+        if (hits.isEmpty()) return ResponseUtil.success(new ArrayList<>());
+
+        Map<Long, NoticeSummary> summaryMap = noticeRepository.findSummariesByUidIn(hits.stream().map(SearchHit::getUid).toList())
+                .stream().collect(Collectors.toMap(NoticeSummary::getUid, summary -> summary));
+
+        // 색인 순서(점수순)를 유지하고, 색인 반영 전에 삭제된 게시글은 뺀다.
+        List<NoticeSearchResultDto> resultData = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            NoticeSummary summary = summaryMap.get(hit.getUid());
+            if (summary == null) continue;
+            resultData.add(NoticeSearchResultDto.builder()
+                    .uid(summary.getUid())
+                    .title(summary.getTitle())
+                    .createdAt(summary.getCreatedAt())
+                    .score(hit.getScore())
+                    .build());
+        }
         return ResponseUtil.success(resultData);
     }
 
-    @Transactional(readOnly = true)
+    public ResponseDto<List<NoticeSuggestionDto>> suggestNotices(String query, int size) {
+        if (!titleSuggester.isReady()) throw new BusyException("제목 자동완성 사전을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+
+        List<NoticeSuggestionDto> resultData = titleSuggester.suggest(query, Math.min(Math.max(size, 1), MAX_SUGGEST_SIZE)).stream()
+                .map(suggestion -> NoticeSuggestionDto.builder()
+                        .uid(suggestion.getUid())
+                        .title(suggestion.getTitle())
+                        .views(suggestion.getViews())
+                        .build())
+                .toList();
+        return ResponseUtil.success(resultData);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ResponseDto<NoticeRetrieveDto> findById(Long noticeUid) {
-        Notice findNotice = noticeRepository.findById(noticeUid)
+        NoticeRetrieveDto cachedData = noticeDetailCache.get(noticeUid, this::loadNoticeRetrieveDto);
+        NoticeRetrieveDto resultData = cachedData.toBuilder()
+                .views(cachedData.getViews() + viewCounter.pending(noticeUid))
+                .build();
+
+        incrementViewCount(noticeUid);
+
+        return ResponseUtil.success(resultData);
+    }
+
+    /**
+     * 직렬화해 둔 게시글 단건 조회 응답 (findById 와 같은 본문). 조회수만 현재 값으로 끼워 넣는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EncodedResponse findEncodedById(Long noticeUid) {
+        EncodedNotice cached = noticeDetailCache.getEncoded(noticeUid, this::loadNoticeRetrieveDto);
+        long views = cached.getNotice().getViews() + viewCounter.pending(noticeUid);
+
+        incrementViewCount(noticeUid);
+
+        return cached.toResponse(views);
+    }
+
+    private NoticeRetrieveDto loadNoticeRetrieveDto(Long noticeUid) {
+        Notice findNotice = noticeRepository.findWithAttachmentsByUid(noticeUid)
                 .orElseThrow(() -> new ApiException("해당 게시글이 존재하지 않습니다. uid: " + noticeUid));
 
-        List<NoticeAttachmentDto> attachmentDtoList = attachmentRepository.findAllByNoticeUid(noticeUid)
+        List<NoticeAttachmentDto> attachmentDtoList = findNotice.getAttachmentList()
                 .stream().map(attachment -> attachment.toDto(SERVER_HTTP_URL))
-                .collect(Collectors.toList());
+                .toList();
 
-        NoticeRetrieveDto resultData = findNotice.toNoticeRetrieveDto(attachmentDtoList);
-
-        CompletableFuture.runAsync(() -> incrementViewCount(noticeUid));
+        return findNotice.toNoticeRetrieveDto(attachmentDtoList);
+    }
 
-        return ResponseUtil.success(resultData);
+    public ResponseDto<CacheStatsDto> findDetailCacheStats() {
+        return ResponseUtil.success(noticeDetailCache.stats());
     }
 
     public void incrementViewCount(Long noticeUid) {
-        viewCountCache.merge(noticeUid, 1L, Long::sum);
+        viewCounter.increment(noticeUid);
     }
 
-    @Scheduled(fixedRate = 60000)
+    @Scheduled(fixedRateString = "${notice.view-count.sync-interval-ms:60000}")
     public void syncViewCountsToDatabase() {
-        for (Map.Entry<Long, Long> entry : viewCountCache.entrySet()) {
-            noticeRepository.incrementViewCount(entry.getKey(), entry.getValue());
-        }
-        viewCountCache.clear();
+        Map<Long, Long> viewCountDeltas = viewCounter.drain();
+        if (viewCountDeltas.isEmpty()) return;
+
+        TransactionUtil.onRollback(() -> viewCounter.restore(viewCountDeltas));
+        TransactionUtil.afterCommit(() -> {
+            // 캐시를 먼저 비운 뒤 반영 중 증가분을 지운다. (그 사이 다시 읽은 값에는 잠깐 두 번 더해 보일 뿐, 줄어 보이지 않는다)
+            // replica 를 쓰면 다시 읽을 때 max-lag 동안 primary 에서 읽으므로, 아직 반영되지 않은 replica 의 조회수로 돌아가지 않는다.
+            noticeDetailCache.invalidateAll(viewCountDeltas.keySet());
+            viewCounter.acknowledge();
+            titleSuggester.addViews(viewCountDeltas);
+        });
+        noticeRepository.incrementViewCounts(viewCountDeltas);
     }
 
     public ResponseDto updateNotice(Long noticeUid, NoticeRequestDto noticeDto) {
@@ -116,20 +272,21 @@ public class NoticeService {
                 .orElseThrow(() -> new ApiException("해당 게시글이 존재하지 않습니다. uid: " + noticeUid));
 
         findNotice.update(noticeDto);
+        noticeDetailCache.invalidate(noticeUid);
         return ResponseUtil.success(null);
     }
 
     public ResponseDto deleteNotice(Long noticeUid) {
-        Notice findNotice = noticeRepository.findById(noticeUid)
+        Notice findNotice = noticeRepository.findWithAttachmentsByUid(noticeUid)
                 .orElseThrow(() -> new ApiException("해당 게시글이 존재하지 않습니다. uid: " + noticeUid));
 
         List<Attachment> attachmentList = findNotice.getAttachmentList();
-        for (Attachment attachment : attachmentList) {
-            deleteFile(attachment);
-        }
-
         attachmentRepository.deleteAll(attachmentList);
+        releaseFilesAfterCommit(attachmentList);
+
         noticeRepository.deleteById(noticeUid);
+        TransactionUtil.afterCommit(() -> viewCounter.discard(noticeUid));
+        noticeDetailCache.invalidate(noticeUid);
 
         return ResponseUtil.success(null);
     }
@@ -139,57 +296,119 @@ public class NoticeService {
         Notice findNotice = noticeRepository.findById(noticeUid)
                 .orElseThrow(() -> new ApiException("첨부파일을 업로드하려는 게시글이 존재하지 않습니다."));
 
-        List<Attachment> attachmentList = new ArrayList<>();
-        List<CompletableFuture<Void>> futureList = new ArrayList<>();
+        // 업로드 한도는 multipart 본문을 파싱하기 전에 AttachmentUploadInterceptor 에서 잡는다.
+        List<CompletableFuture<StoredFile>> futureList = new ArrayList<>();
+        List<StoredFile> storedFileList = new ArrayList<>();
         try {
             for (MultipartFile attachment : attachments) {
-                String originFileName = attachment.getOriginalFilename();
-                String newFileName = Attachment.toNewFileName(originFileName, findNotice.getUid());
-
-                Attachment attachmentEntity = Attachment.builder()
-                        .originFileName(originFileName)
-                        .newFileName(newFileName)
-                        .path(NOTICE_ATTACHMENT_PATH)
-                        .notice(findNotice)
-                        .build();
-
-                attachmentList.add(attachmentEntity);
-
-                CompletableFuture<Void> future = storeFile(attachment, newFileName);
-                futureList.add(future);
-            }
-            for (CompletableFuture<Void> future : futureList) {
-                future.get();
+                String newFileName = Attachment.toNewFileName(attachment.getOriginalFilename(), findNotice.getUid(), idGenerator);
+                futureList.add(attachmentIoService.store(attachment, newFileName));
             }
+            for (CompletableFuture<StoredFile> future : futureList) storedFileList.add(future.get());
+        } catch (TaskRejectedException e) {
+            discardStoredFiles(futureList);
+            throw new BusyException("첨부파일 처리 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
         } catch (Exception e) {
-            deleteFiles(attachmentList);
+            discardStoredFiles(futureList);
             throw new ApiException(e.getMessage());
         }
+        holdUntilCompletion(storedFileList);
+
+        List<Attachment> attachmentList = new ArrayList<>();
+        for (int i = 0; i < attachments.length; i++) {
+            attachmentList.add(toAttachment(findNotice, attachments[i].getOriginalFilename(), storedFileList.get(i)));
+        }
 
         attachmentRepository.saveAll(attachmentList);
+        findNotice.touch();
+        noticeDetailCache.invalidate(noticeUid);
         return ResponseUtil.success(null);
     }
 
-    @Async
-    protected CompletableFuture<Void> storeFile(MultipartFile file, String newFileName) {
-        return CompletableFuture.runAsync(() -> {
-            Path targetLocation = Paths.get(NOTICE_ATTACHMENT_PATH + "/" + newFileName).toAbsolutePath().normalize();
-            File dir = new File(NOTICE_ATTACHMENT_PATH);
-            if (!dir.exists()) dir.mkdirs();
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AttachmentFile findAttachmentFile(Long noticeUid, Long attachmentUid) {
+        Attachment findAttachment = attachmentRepository.findById(attachmentUid)
+                .filter(attachment -> noticeUid.equals(attachment.getNotice().getUid()))
+                .orElseThrow(() -> new ApiException("해당 게시글에 해당하는 첨부파일이 없습니다. notice uid: " + noticeUid + ", attachment uid: " + attachmentUid));
+
+        return new AttachmentFile(attachmentStorage.resolve(findAttachment.getNewFileName()),
+                findAttachment.getOriginFileName(), findAttachment.getChecksum());
+    }
 
+    /**
+     * 본문을 받는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 파일을 저장하고, 첨부파일 행은 짧은 트랜잭션으로 저장한다.
+     * 행을 저장하지 못하면(그 사이 게시글이 삭제된 경우 등) 저장한 파일을 지운다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseDto<UidDto> uploadNoticeAttachmentStream(Long noticeUid, String originFileName, Long contentLength, InputStream body) {
+
+        if (!noticeRepository.existsById(noticeUid))
+            throw new ApiException("첨부파일을 업로드하려는 게시글이 존재하지 않습니다.");
+
+        String newFileName = Attachment.toNewFileName(originFileName, noticeUid, idGenerator);
+
+        // 길이를 알 수 없는(chunked) 요청은 최대 크기만큼 예약
+        long uploadBytes = contentLength == null || contentLength < 0 ? MAX_STREAM_SIZE.toBytes() : contentLength;
+        StoredFile storedFile;
+        try (AttachmentUploadLimiter.Permit permit = attachmentUploadLimiter.acquire(uploadBytes)) {
+            storedFile = attachmentStorage.store(body, newFileName, MAX_STREAM_SIZE.toBytes());
+        } catch (IOException e) {
+            throw new ApiException("첨부파일 업로드에 실패했습니다. 파일 제목: " + originFileName);
+        }
+
+        Attachment savedAttachment;
+        try {
+            savedAttachment = transactionTemplate.execute(status -> {
+                Notice findNotice = noticeRepository.findById(noticeUid)
+                        .orElseThrow(() -> new ApiException("첨부파일을 업로드하려는 게시글이 존재하지 않습니다."));
+                Attachment attachment = attachmentRepository.save(toAttachment(findNotice, originFileName, storedFile));
+                findNotice.touch();
+                noticeDetailCache.invalidate(noticeUid);
+                return attachment;
+            });
+        } catch (RuntimeException e) {
+            attachmentStorage.unpin(storedFile.getKey());
+            releaseFiles(List.of(storedFile.getKey()));
+            throw e;
+        }
+        attachmentStorage.unpin(storedFile.getKey());
+        return ResponseUtil.success(UidDto.builder().uid(savedAttachment.getUid()).build());
+    }
+
+    private Attachment toAttachment(Notice notice, String originFileName, StoredFile storedFile) {
+        return Attachment.builder()
+                .originFileName(originFileName)
+                .newFileName(storedFile.getKey())
+                .path(attachmentStorage.getLocation())
+                .fileSize(storedFile.getSize())
+                .checksum(storedFile.getChecksum())
+                .notice(notice)
+                .build();
+    }
+
+    // 저장한 파일은 트랜잭션이 끝날 때까지 지워지지 않게 두고, 커밋되지 않으면 지운다.
+    private void holdUntilCompletion(List<StoredFile> storedFileList) {
+        List<String> keyList = storedFileList.stream().map(StoredFile::getKey).toList();
+        TransactionUtil.afterCompletion(() -> keyList.forEach(attachmentStorage::unpin));
+        TransactionUtil.onRollback(() -> releaseFiles(keyList));
+    }
+
+    // 실패한 업로드의 파일을 지우기 전에 이미 시작된 저장 작업이 끝나기를 기다린다.
+    private void discardStoredFiles(List<CompletableFuture<StoredFile>> futureList) {
+        List<String> keyList = new ArrayList<>();
+        for (CompletableFuture<StoredFile> future : futureList) {
             try {
-                Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-            } catch (IOException e) {
-                throw new ApiException("첨부파일 업로드에 실패했습니다. 파일 제목: " + file.getOriginalFilename());
+                String key = future.join().getKey();
+                attachmentStorage.unpin(key);
+                keyList.add(key);
+            } catch (RuntimeException ignored) {
             }
-
-        }).exceptionally(ex -> {
-            throw new ApiException("첨부파일 업로드에 실패했습니다. 파일 제목: " + file.getOriginalFilename());
-        });
+        }
+        releaseFiles(keyList);
     }
 
     public ResponseDto deleteNoticeAttachment(Long noticeUid, AttachmentDeleteRequestDto requestDto) {
-        noticeRepository.findById(noticeUid)
+        Notice findNotice = noticeRepository.findById(noticeUid)
                 .orElseThrow(() -> new ApiException("해당 게시글이 존재하지 않습니다. uid: " + noticeUid));
 
         ArrayList<Attachment> attachmentList = new ArrayList<>();
@@ -204,28 +423,31 @@ public class NoticeService {
         }
 
         attachmentRepository.deleteAll(attachmentList);
-        deleteFiles(attachmentList);
+        releaseFilesAfterCommit(attachmentList);
+        findNotice.touch();
+        noticeDetailCache.invalidate(noticeUid);
 
         return ResponseUtil.success(null);
     }
 
-    @Async
-    protected void deleteFiles(List<Attachment> attachmentList) {
-        for (Attachment attachment : attachmentList) {
-            deleteFile(attachment);
-        }
+    // 첨부파일 행 삭제가 커밋된 뒤에 파일을 정리한다. (내용 주소 저장소는 이때 남은 참조 수를 센다)
+    private void releaseFilesAfterCommit(List<Attachment> attachmentList) {
+        List<String> keyList = attachmentList.stream().map(Attachment::getNewFileName).toList();
+        TransactionUtil.afterCommit(() -> releaseFiles(keyList));
     }
 
-    @Async
-    protected CompletableFuture<Void> deleteFile(Attachment findAttachment) {
-        return CompletableFuture.runAsync(() -> {
-            Path path = Paths.get(NOTICE_ATTACHMENT_PATH + "/" + findAttachment.getNewFileName());
+    private void releaseFiles(List<String> keyList) {
+        for (String key : keyList) {
             try {
-                if (!Files.exists(path)) return;
-                Files.delete(path);
-            } catch (IOException e) {
-                throw new ApiException("해당 파일 삭제에 실패했습니다. 파일이름: " + findAttachment.getNewFileName());
+                attachmentIoService.release(key);
+            } catch (TaskRejectedException e) {
+                // I/O executor 가 가득 찬 경우 현재 스레드에서 삭제
+                try {
+                    attachmentStorage.release(key);
+                } catch (IOException ex) {
+                    log.error("첨부파일 삭제에 실패했습니다. 키: {}", key, ex);
+                }
             }
-        });
+        }
     }
-}
\ No newline at end of file
+}
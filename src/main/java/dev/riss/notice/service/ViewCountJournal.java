@@ -0,0 +1,228 @@
+package dev.riss.notice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아직 DB 에 반영되지 않은 조회수 증가분을 기록하는 memory-mapped append-only 저널
+ * - 레코드는 (게시글 uid, 증가분) 16 byte 고정 길이이며, 세그먼트 파일 단위로 기록한다.
+ * - fsync 는 조회마다 하지 않고 fsync-interval-ms 주기로 묶어서(group fsync) 수행한다.
+ * - DB 동기화 직전 rotate() 로 새 세그먼트로 넘어가고, 동기화가 커밋되면 truncate(경계) 로 그 이전 세그먼트만 지운다.
+ * - 기동 시 남아 있는 세그먼트는 replay() 로 읽어 카운터에 되돌린다.
+ * - 세그먼트 전환은 파일을 열고 fsync 하므로 synchronized 대신 ReentrantLock 을 쓴다. (가상 스레드가 I/O 중 carrier 스레드에 고정되지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.view-count.journal.enabled", havingValue = "true")
+public class ViewCountJournal {
+
+    private static final int RECORD_BYTES = Long.BYTES * 2;
+    private static final String FILE_PREFIX = "view-count-";
+    private static final String FILE_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Map<Long, Long> replayed;
+    private volatile Segment active;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ViewCountJournal(@Value("${notice.view-count.journal.directory:journal}") String directory,
+                            @Value("${notice.view-count.journal.segment-bytes:4194304}") int segmentBytes) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.segmentBytes = segmentBytes - segmentBytes % RECORD_BYTES;
+        if (this.segmentBytes <= 0) throw new IllegalArgumentException("segment-bytes 가 너무 작습니다: " + segmentBytes);
+
+        try {
+            Files.createDirectories(this.directory);
+            this.replayed = load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("조회수 저널을 읽지 못했습니다. 경로: " + this.directory, e);
+        }
+        long nextSequence = segments.isEmpty() ? 0L : segments.lastKey() + 1;
+        this.active = open(nextSequence);
+    }
+
+    public void append(long noticeUid, long delta) {
+        while (true) {
+            Segment segment = active;
+            segment.writers.incrementAndGet();
+            try {
+                // 그 사이 전환되었으면 새 세그먼트에 기록한다. (전환한 쪽은 writers 가 0 이 되기를 기다렸다가 force 한다)
+                if (segment != active) continue;
+                int offset = segment.position.getAndAdd(RECORD_BYTES);
+                if (offset + RECORD_BYTES <= segmentBytes) {
+                    segment.buffer.putLong(offset + Long.BYTES, delta);
+                    segment.buffer.putLong(offset, noticeUid);
+                    return;
+                }
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+            roll(segment);
+        }
+    }
+
+    /**
+     * 새 세그먼트로 전환하고, 이전 세그먼트에 기록 중인 append 가 끝나면 force 한다.
+     * @return 경계 sequence. 이보다 앞선 세그먼트에는 전환 전에 기록된 증가분만 있으며, DB 에 반영되면 truncate(경계) 로 지운다.
+     */
+    public long rotate() {
+        lock.lock();
+        try {
+            Segment previous = active;
+            if (previous.position.get() == 0) return previous.sequence;
+            active = open(previous.sequence + 1);
+            seal(previous);
+            return active.sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * rotate() 가 돌려준 경계보다 앞선 세그먼트(= DB 에 반영이 끝난 증가분)를 삭제한다.
+     * 동기화 도중 세그먼트가 가득 차 새로 연 세그먼트는 경계 이후이므로 남는다.
+     */
+    public void truncate(long boundary) {
+        for (Segment segment : segments.headMap(boundary).values()) {
+            segments.remove(segment.sequence);
+            segment.close();
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("조회수 저널 세그먼트 삭제에 실패했습니다. 파일: {}", segment.path, e);
+            }
+        }
+    }
+
+    /**
+     * 기동 시 저널에서 복구한 증가분. 한 번만 꺼낼 수 있다.
+     */
+    public Map<Long, Long> replay() {
+        lock.lock();
+        try {
+            Map<Long, Long> result = new HashMap<>(replayed);
+            replayed.clear();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notice.view-count.journal.fsync-interval-ms:200}")
+    public void sync() {
+        active.force();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Segment segment : segments.values()) {
+            segment.force();
+            segment.close();
+        }
+    }
+
+    private void roll(Segment full) {
+        lock.lock();
+        try {
+            if (active != full) return;
+            active = open(full.sequence + 1);
+            seal(full);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 전환 전에 세그먼트를 잡은 append 가 모두 끝나기를 기다린 뒤 디스크에 쓴다. (레코드 두 개를 쓰는 짧은 구간이므로 spin)
+    private void seal(Segment segment) {
+        while (segment.writers.get() != 0) Thread.onSpinWait();
+        segment.force();
+    }
+
+    private Segment open(long sequence) {
+        Path path = directory.resolve(FILE_PREFIX + sequence + FILE_SUFFIX);
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            Segment segment = new Segment(sequence, path, channel, buffer);
+            segments.put(sequence, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("조회수 저널 세그먼트를 열지 못했습니다. 파일: " + path, e);
+        }
+    }
+
+    private Map<Long, Long> load() throws IOException {
+        Map<Long, Long> deltas = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                long sequence = Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    // 동시에 기록하던 중 종료되면 중간에 빈 레코드가 있을 수 있으므로 끝까지 읽는다.
+                    for (int offset = 0; offset + RECORD_BYTES <= buffer.limit(); offset += RECORD_BYTES) {
+                        long noticeUid = buffer.getLong(offset);
+                        long delta = buffer.getLong(offset + Long.BYTES);
+                        if (noticeUid != 0L && delta != 0L) deltas.merge(noticeUid, delta, Long::sum);
+                    }
+                }
+                // 복구한 세그먼트는 다음 동기화가 커밋될 때 truncate(경계) 로 함께 삭제된다.
+                segments.put(sequence, new Segment(sequence, path, null, null));
+            }
+        }
+        if (!deltas.isEmpty()) log.info("조회수 저널에서 {}개 게시글의 증가분을 복구했습니다.", deltas.size());
+        return deltas;
+    }
+
+    private static class Segment {
+        private final long sequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger position = new AtomicInteger();
+        // 이 세그먼트에 기록 중인 append 수
+        private final AtomicInteger writers = new AtomicInteger();
+
+        private Segment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private void force() {
+            if (buffer != null) buffer.force();
+        }
+
+        private void close() {
+            if (channel == null) return;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("조회수 저널 세그먼트를 닫지 못했습니다. 파일: {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package dev.riss.notice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 조회수 증가분을 DB 동기화 전까지 메모리에 누적하는 카운터
+ * - 게시글마다 LongAdder 를 두어 같은 게시글에 조회가 몰려도 스레드 간 경합 없이 증가시킨다.
+ * - drain() 은 각 셀을 getAndSet(0) 으로 비우므로, drain 도중 들어온 증가분은 유실되지 않고 다음 drain 에 포함된다.
+ * - 조회가 없던 게시글의 카운터는 drain() 에서 제거한다. 제거 중인 카운터에 늦게 더한 증가분은 add() 가 새 카운터로 옮긴다.
+ * - ViewCountJournal 이 활성화되어 있으면 증가분을 저널에도 기록하고, 기동 시 저널에 남은 증가분을 복구한다.
+ * - 지표: 대기 중인 증가분(게시글 수, 조회수), DB 동기화 시간(drain ~ acknowledge)과 게시글 수, 실패 수,
+ *   마지막 동기화 이후 경과 시간(lag). increment 경로에는 지표 기록이 없다.
+ */
+@Component
+public class ViewCounter implements MeterBinder {
+
+    private final ConcurrentHashMap<Long, Cell> counters = new ConcurrentHashMap<>();
+    // drain() 으로 꺼냈지만 아직 DB 반영이 확인되지 않은 증가분. 동기화 중에도 pending() 에 포함해 조회수가 줄어 보이지 않게 한다.
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+    private final ViewCountJournal journal;
+
+    // 마지막으로 DB 에 반영했거나 반영할 증가분이 없던 시각 (System.nanoTime)
+    private volatile long flushedAt = System.nanoTime();
+    private volatile long drainedAt;
+    // drain() 시점의 저널 세그먼트 경계. acknowledge() 는 이보다 앞선 세그먼트만 지운다.
+    private volatile long journalBoundary;
+    // bindTo 전에는 null
+    private volatile Timer flushTimer;
+    private volatile DistributionSummary flushBatch;
+    private volatile Counter flushFailures;
+
+    public ViewCounter() {
+        this(Optional.empty());
+    }
+
+    @Autowired
+    public ViewCounter(Optional<ViewCountJournal> journal) {
+        this.journal = journal.orElse(null);
+        if (this.journal != null) this.journal.replay().forEach(this::add);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notice.view_count.pending.notices", this, ViewCounter::pendingNotices)
+                .description("DB 에 반영되지 않은 조회수 증가분이 있는 게시글 수")
+                .register(registry);
+        Gauge.builder("notice.view_count.pending.views", this, ViewCounter::pendingViews)
+                .description("DB 에 반영되지 않은 조회수 증가분 합계")
+                .register(registry);
+        TimeGauge.builder("notice.view_count.flush.lag", this, TimeUnit.NANOSECONDS, counter -> System.nanoTime() - counter.flushedAt)
+                .description("마지막 조회수 DB 동기화 이후 경과 시간")
+                .register(registry);
+        flushTimer = Timer.builder("notice.view_count.flush")
+                .description("조회수 증가분 DB 동기화 시간 (drain ~ 커밋)")
+                .register(registry);
+        flushBatch = DistributionSummary.builder("notice.view_count.flush.batch")
+                .description("조회수 DB 동기화 한 번에 반영한 게시글 수")
+                .baseUnit("notices")
+                .register(registry);
+        flushFailures = Counter.builder("notice.view_count.flush.failures")
+                .description("조회수 DB 동기화 실패(restore) 수")
+                .register(registry);
+    }
+
+    public void increment(Long noticeUid) {
+        add(noticeUid, 1L);
+        if (journal != null) journal.append(noticeUid, 1L);
+    }
+
+    public void add(Long noticeUid, long delta) {
+        Cell cell = counters.get(noticeUid);
+        if (cell == null) cell = counters.computeIfAbsent(noticeUid, key -> new Cell());
+        cell.add(delta);
+        if (!cell.retired) return;
+
+        // drain() 이 제거하는 중인 카운터에 더한 경우. drain() 이 가져가지 못한 만큼 새 카운터로 옮긴다.
+        // (셀마다 getAndSet(0) 으로 가져가므로 같은 증가분을 두 번 가져가지 않는다)
+        counters.remove(noticeUid, cell);
+        long late = cell.sumThenReset();
+        if (late != 0L) add(noticeUid, late);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 증가분 (DB 에 반영 중인 증가분 포함)
+     */
+    public long pending(Long noticeUid) {
+        Cell cell = counters.get(noticeUid);
+        return (cell == null ? 0L : cell.sum()) + inFlight.getOrDefault(noticeUid, 0L);
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 0 으로 초기화한다. 증가분이 없는 게시글은 결과에 포함하지 않는다.
+     * 지난 drain() 이후 조회가 없던 게시글의 카운터는 제거하므로, 한 번이라도 조회된 게시글의 카운터가 계속 쌓이지 않는다.
+     * 꺼낸 증가분은 acknowledge() 전까지 pending() 에 계속 포함된다.
+     * 꺼낸 증가분이 DB 에 반영되면 acknowledge() 를, 실패하면 restore() 를 호출해야 한다.
+     */
+    public Map<Long, Long> drain() {
+        if (journal != null) journalBoundary = journal.rotate();
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, Cell> entry : counters.entrySet()) {
+            Cell cell = entry.getValue();
+            long delta = cell.sum();
+            if (delta != 0L) {
+                // 반영 중 목록에 먼저 넣고 카운터에서 뺀다. (그 사이 pending() 은 잠깐 크게 보일 뿐 작아지지 않는다)
+                inFlight.merge(entry.getKey(), delta, Long::sum);
+                cell.add(-delta);
+            } else {
+                // 제거 표시 -> 제거 -> 그 사이에 더해진 증가분을 가져간다. 이후에 더해진 증가분은 add() 가 새 카운터로 옮긴다.
+                cell.retired = true;
+                counters.remove(entry.getKey(), cell);
+                delta = cell.sumThenReset();
+                if (delta != 0L) inFlight.merge(entry.getKey(), delta, Long::sum);
+            }
+            if (delta != 0L) deltas.merge(entry.getKey(), delta, Long::sum);
+        }
+
+        long now = System.nanoTime();
+        if (deltas.isEmpty()) {
+            flushedAt = now;
+        } else {
+            drainedAt = now;
+            if (flushBatch != null) flushBatch.record(deltas.size());
+        }
+        return deltas;
+    }
+
+    /**
+     * drain() 으로 꺼낸 증가분이 DB 에 반영되었으므로 drain() 시점 이전의 저널 세그먼트를 정리한다.
+     */
+    public void acknowledge() {
+        inFlight.clear();
+        if (journal != null) journal.truncate(journalBoundary);
+
+        long now = System.nanoTime();
+        flushedAt = now;
+        if (flushTimer != null) flushTimer.record(now - drainedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * DB 반영에 실패한 증가분을 다시 누적한다. 저널에는 이미 기록되어 있으므로 다시 기록하지 않는다.
+     * 반영하는 동안 삭제된(discard) 게시글의 증가분은 다시 누적하지 않는다.
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((noticeUid, delta) -> {
+            if (!inFlight.containsKey(noticeUid)) return;
+            add(noticeUid, delta);
+            inFlight.computeIfPresent(noticeUid, (key, value) -> value - delta == 0L ? null : value - delta);
+        });
+        if (flushFailures != null) flushFailures.increment();
+    }
+
+    /**
+     * 증가분이 남아 있는 게시글 수 (지표 수집 시에만 호출)
+     */
+    long pendingNotices() {
+        long count = 0L;
+        for (Map.Entry<Long, Cell> entry : counters.entrySet()) {
+            if (entry.getValue().sum() != 0L || inFlight.containsKey(entry.getKey())) count++;
+        }
+        for (Long noticeUid : inFlight.keySet()) if (!counters.containsKey(noticeUid)) count++;
+        return count;
+    }
+
+    /**
+     * 남아 있는 증가분 합계 (지표 수집 시에만 호출)
+     */
+    long pendingViews() {
+        long sum = 0L;
+        for (Cell cell : counters.values()) sum += cell.sum();
+        for (Long delta : inFlight.values()) sum += delta;
+        return sum;
+    }
+
+    /**
+     * 카운터를 들고 있는 게시글 수
+     */
+    int size() {
+        return counters.size();
+    }
+
+    /**
+     * 삭제된 게시글의 카운터와 DB 반영 중인 증가분을 제거한다. 삭제가 커밋된 뒤에 호출해야 한다. (롤백되면 조회수를 잃지 않도록)
+     * 이미 시작된 DB 반영은 없는 행을 갱신하고 끝나며, 이후의 drain() 에는 포함되지 않는다.
+     */
+    public void discard(Long noticeUid) {
+        counters.remove(noticeUid);
+        inFlight.remove(noticeUid);
+    }
+
+    private static final class Cell extends LongAdder {
+        // drain() 이 제거하기로 한 카운터
+        private volatile boolean retired;
+    }
+}
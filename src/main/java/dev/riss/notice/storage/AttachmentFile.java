@@ -0,0 +1,19 @@
+package dev.riss.notice.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 다운로드할 첨부파일의 실제 위치와 메타데이터
+ * checksum 은 크기/체크섬 기록 이전에 업로드된 첨부파일이면 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class AttachmentFile {
+
+    private final Path path;
+    private final String originFileName;
+    private final String checksum;
+}
@@ -0,0 +1,80 @@
+package dev.riss.notice.storage;
+
+import dev.riss.notice.exception.ApiException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 첨부파일 내용을 지정한 위치에 기록한다. 파일 내용을 한 번만 디스크에 쓰는 것을 목표로 한다.
+ * - multipart: 서블릿 컨테이너가 임시 저장(spool)한 파일을 대상 위치로 이동(같은 파일 시스템이면 rename)한다.
+ * - stream: 요청 본문을 임시 저장 없이 FileChannel.transferFrom 으로 대상 위치에 바로 기록하며, 크기와 체크섬을 함께 계산한다.
+ * 반환하는 StoredFile 의 key 는 대상 파일 이름이며, 저장소 구현에서 자신의 키로 바꿔 쓴다.
+ */
+final class AttachmentFileStore {
+
+    private static final int TRANSFER_CHUNK_BYTES = 1 << 20;
+
+    private AttachmentFileStore() {
+    }
+
+    static StoredFile write(MultipartFile file, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        // Tomcat 은 절대 경로가 주어지면 spool 파일을 복사하지 않고 이동한다.
+        file.transferTo(target.toFile());
+        return new StoredFile(target.getFileName().toString(), Files.size(target), sha256(target));
+    }
+
+    static StoredFile write(InputStream in, Path target, long maxBytes) throws IOException {
+        Files.createDirectories(target.getParent());
+        MessageDigest digest = newSha256();
+
+        long size = 0L;
+        try (DigestInputStream digestInputStream = new DigestInputStream(in, digest);
+             ReadableByteChannel source = Channels.newChannel(digestInputStream);
+             FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long transferred;
+            while ((transferred = channel.transferFrom(source, size, TRANSFER_CHUNK_BYTES)) > 0) {
+                size += transferred;
+                if (size > maxBytes) throw new ApiException("첨부파일 크기가 허용 범위를 넘었습니다. 최대: " + maxBytes + " bytes");
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return new StoredFile(target.getFileName().toString(), size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    static String sha256(Path path) throws IOException {
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TRANSFER_CHUNK_BYTES);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package dev.riss.notice.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 첨부파일 저장소. notice.attachment.storage 설정으로 구현을 고른다.
+ * - local: 업로드마다 새 파일 이름으로 저장한다. (기본값)
+ * - content-addressed: SHA-256 으로 키를 만들어 같은 내용은 한 번만 저장한다.
+ *
+ * Attachment.newFileName 에는 store 가 돌려준 key 를, Attachment.path 에는 getLocation() 을 기록한다.
+ * store 로 저장한 파일은 unpin 을 호출하기 전까지 release 로 지워지지 않는다.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * Attachment.path 에 기록할 저장소 위치
+     */
+    String getLocation();
+
+    /**
+     * @param fileName 저장소가 파일 이름을 정하는 경우 사용할 이름 (Attachment.toNewFileName)
+     */
+    StoredFile store(MultipartFile file, String fileName) throws IOException;
+
+    StoredFile store(InputStream in, String fileName, long maxBytes) throws IOException;
+
+    Path resolve(String key);
+
+    /**
+     * 저장한 파일을 참조하는 트랜잭션이 끝난 뒤 호출한다.
+     */
+    default void unpin(String key) {
+    }
+
+    /**
+     * 첨부파일 행이 삭제된 트랜잭션이 커밋된 뒤 호출한다. 더 이상 참조가 없을 때만 파일을 지운다.
+     */
+    void release(String key) throws IOException;
+}
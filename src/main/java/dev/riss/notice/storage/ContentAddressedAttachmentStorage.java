@@ -0,0 +1,155 @@
+package dev.riss.notice.storage;
+
+import dev.riss.notice.domain.notice.AttachmentRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 내용의 SHA-256 을 키로 저장한다. (ab/cd/abcd...)
+ * 같은 내용은 한 번만 저장하고, 참조 수는 같은 키를 가진 첨부파일 행의 수로 센다.
+ *
+ * 업로드는 임시 파일에 쓰면서 체크섬을 계산한 뒤 키 위치로 원자적으로 이동한다. 같은 키가 이미 있으면 임시 파일을 지운다.
+ * 저장 후 행이 커밋되기 전에는 DB 참조 수가 0 이므로, 그 사이에는 pin 으로 삭제를 막는다.
+ * pin 은 이 인스턴스 메모리에만 있으므로 여러 인스턴스가 디렉토리를 공유하는 구성은 지원하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "notice.attachment.storage", havingValue = "content-addressed")
+public class ContentAddressedAttachmentStorage implements AttachmentStorage {
+
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final int LOCK_STRIPES = 64;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}");
+
+    private final AttachmentRepository attachmentRepository;
+    private final String location;
+    private final Path root;
+    private final Path tempDirectory;
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    // key -> 아직 트랜잭션이 끝나지 않은 저장 수. 한 key 의 확인/변경은 그 key 의 stripe lock 안에서 하지만,
+    // 서로 다른 stripe 의 key 는 동시에 바뀌므로 맵 자체는 ConcurrentHashMap 이어야 한다.
+    private final Map<String, Integer> pins = new ConcurrentHashMap<>();
+
+    public ContentAddressedAttachmentStorage(AttachmentRepository attachmentRepository,
+                                             @Value("${notice.attachment.directory}") String location) {
+        this.attachmentRepository = attachmentRepository;
+        this.location = location;
+        this.root = Paths.get(location).toAbsolutePath().normalize();
+        this.tempDirectory = root.resolve(TEMP_DIRECTORY);
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new ReentrantLock();
+    }
+
+    @PostConstruct
+    public void cleanTempDirectory() throws IOException {
+        Files.createDirectories(tempDirectory);
+        // 비정상 종료로 남은 임시 파일 정리
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(tempDirectory)) {
+            for (Path path : stream) Files.deleteIfExists(path);
+        }
+    }
+
+    @Override
+    public String getLocation() {
+        return location;
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file, String fileName) throws IOException {
+        Path temp = newTempFile();
+        try {
+            return publish(temp, AttachmentFileStore.write(file, temp));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public StoredFile store(InputStream in, String fileName, long maxBytes) throws IOException {
+        Path temp = newTempFile();
+        try {
+            return publish(temp, AttachmentFileStore.write(in, temp, maxBytes));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public Path resolve(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) throw new IllegalArgumentException("잘못된 첨부파일 키입니다. key: " + key);
+        return root.resolve(key);
+    }
+
+    @Override
+    public void unpin(String key) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            pins.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(String key) throws IOException {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (pins.containsKey(key) || attachmentRepository.countByNewFileName(key) > 0) return;
+            Files.deleteIfExists(resolve(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private StoredFile publish(Path temp, StoredFile written) throws IOException {
+        String checksum = written.getChecksum();
+        String key = toKey(checksum);
+        Path target = resolve(key);
+
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (Files.exists(target)) {
+                Files.delete(temp);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            pins.merge(key, 1, Integer::sum);
+        } finally {
+            lock.unlock();
+        }
+        return new StoredFile(key, written.getSize(), checksum);
+    }
+
+    private Path newTempFile() {
+        return tempDirectory.resolve(UUID.randomUUID().toString());
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return locks[(key.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    static String toKey(String checksum) {
+        return checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum;
+    }
+}
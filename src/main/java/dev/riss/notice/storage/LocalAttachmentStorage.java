@@ -0,0 +1,55 @@
+package dev.riss.notice.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 첨부파일 디렉토리에 업로드마다 새 파일 이름(noticeId_uuid.ext)으로 저장한다.
+ */
+@Component
+@ConditionalOnProperty(name = "notice.attachment.storage", havingValue = "local", matchIfMissing = true)
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private final String location;
+    private final Path root;
+
+    public LocalAttachmentStorage(@Value("${notice.attachment.directory}") String location) {
+        this.location = location;
+        this.root = Paths.get(location).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String getLocation() {
+        return location;
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file, String fileName) throws IOException {
+        return AttachmentFileStore.write(file, resolve(fileName));
+    }
+
+    @Override
+    public StoredFile store(InputStream in, String fileName, long maxBytes) throws IOException {
+        return AttachmentFileStore.write(in, resolve(fileName), maxBytes);
+    }
+
+    @Override
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) throw new IllegalArgumentException("잘못된 첨부파일 키입니다. key: " + key);
+        return path;
+    }
+
+    @Override
+    public void release(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+}
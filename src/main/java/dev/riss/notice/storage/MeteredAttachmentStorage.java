@@ -0,0 +1,103 @@
+package dev.riss.notice.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 저장소의 저장/삭제 시간, 실패 수, 저장한 바이트를 기록하는 decorator (MetricsConfig 에서 감싼다)
+ * - notice.attachment.io{operation=store|release, outcome=success|failure}: 소요 시간, 실패 수는 outcome=failure 의 count
+ * - notice.attachment.io.bytes{operation=store}: 저장한 바이트 (rate 로 초당 처리량)
+ * 미터는 생성 시 한 번만 만들어 두므로 호출마다 조회(tag 조합)하지 않는다.
+ */
+public class MeteredAttachmentStorage implements AttachmentStorage {
+
+    private final AttachmentStorage delegate;
+    private final Timer storeSuccess;
+    private final Timer storeFailure;
+    private final Timer releaseSuccess;
+    private final Timer releaseFailure;
+    private final Counter storedBytes;
+
+    public MeteredAttachmentStorage(AttachmentStorage delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.storeSuccess = timer(registry, "store", "success");
+        this.storeFailure = timer(registry, "store", "failure");
+        this.releaseSuccess = timer(registry, "release", "success");
+        this.releaseFailure = timer(registry, "release", "failure");
+        this.storedBytes = Counter.builder("notice.attachment.io.bytes")
+                .description("첨부파일 저장소에 기록한 바이트")
+                .baseUnit("bytes")
+                .tag("operation", "store")
+                .register(registry);
+    }
+
+    @Override
+    public String getLocation() {
+        return delegate.getLocation();
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file, String fileName) throws IOException {
+        long startedAt = System.nanoTime();
+        try {
+            return stored(delegate.store(file, fileName), startedAt);
+        } catch (IOException | RuntimeException e) {
+            storeFailure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    @Override
+    public StoredFile store(InputStream in, String fileName, long maxBytes) throws IOException {
+        long startedAt = System.nanoTime();
+        try {
+            return stored(delegate.store(in, fileName, maxBytes), startedAt);
+        } catch (IOException | RuntimeException e) {
+            storeFailure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    @Override
+    public Path resolve(String key) {
+        return delegate.resolve(key);
+    }
+
+    @Override
+    public void unpin(String key) {
+        delegate.unpin(key);
+    }
+
+    @Override
+    public void release(String key) throws IOException {
+        long startedAt = System.nanoTime();
+        try {
+            delegate.release(key);
+            releaseSuccess.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (IOException | RuntimeException e) {
+            releaseFailure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private StoredFile stored(StoredFile storedFile, long startedAt) {
+        storeSuccess.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        storedBytes.increment(storedFile.getSize());
+        return storedFile;
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation, String outcome) {
+        return Timer.builder("notice.attachment.io")
+                .description("첨부파일 저장소 저장/삭제 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.riss.notice.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장이 끝난 첨부파일의 저장소 키, 크기, SHA-256 체크섬(hex)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredFile {
+
+    private final String key;
+    private final long size;
+    private final String checksum;
+}
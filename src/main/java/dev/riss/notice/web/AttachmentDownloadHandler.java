@@ -0,0 +1,208 @@
+package dev.riss.notice.web;
+
+import dev.riss.notice.exception.ApiException;
+import dev.riss.notice.storage.AttachmentFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 첨부파일 다운로드 응답을 작성한다.
+ * - ETag: SHA-256 체크섬으로 만든 strong ETag. If-None-Match 가 일치하면 304 를 반환한다.
+ * - Range: 단일 범위와 다중 범위(multipart/byteranges)를 지원한다. If-Range 가 있으면 ETag 가 일치할 때만 범위를 적용한다.
+ * - 본문: Tomcat sendfile 을 쓸 수 있으면 커널에서 바로 소켓으로 보내고(zero-copy), 아니면 FileChannel.transferTo 로 보낸다.
+ */
+@Component
+public class AttachmentDownloadHandler {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate().getHeaderValue();
+
+    public void handle(AttachmentFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = file.getPath();
+        if (!Files.isRegularFile(path)) throw new ApiException("첨부파일을 찾을 수 없습니다. 파일 이름: " + file.getOriginFileName());
+
+        long length = Files.size(path);
+        String etag = file.getChecksum() == null ? null : "\"" + file.getChecksum() + "\"";
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (etag != null) response.setHeader(HttpHeaders.ETAG, etag);
+
+        if (etag != null && matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String contentType = MediaTypeFactory.getMediaType(file.getOriginFileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(file.getOriginFileName(), StandardCharsets.UTF_8)
+                .build().toString());
+
+        List<ByteRange> rangeList = toByteRanges(request, etag, length);
+        if (rangeList == null) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+        if (rangeList.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!head) send(request, response, path, 0, length);
+        } else if (rangeList.size() == 1) {
+            ByteRange range = rangeList.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.toContentRange(length));
+            response.setContentLengthLong(range.length());
+            if (!head) send(request, response, path, range.start(), range.length());
+        } else {
+            sendMultipart(response, path, contentType, rangeList, length, head);
+        }
+    }
+
+    /**
+     * @return 적용할 범위 목록. 범위 요청이 아니거나 무시해야 하면 빈 목록, 만족할 수 없는 범위면 null
+     */
+    private List<ByteRange> toByteRanges(HttpServletRequest request, String etag, long length) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) return List.of();
+
+        // If-Range 는 strong 비교만 허용하며, 날짜 형식은 Last-Modified 를 내려주지 않으므로 일치하지 않는 것으로 본다.
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && (etag == null || !ifRange.trim().equals(etag))) return List.of();
+
+        List<HttpRange> httpRangeList;
+        try {
+            httpRangeList = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return List.of(); // 형식이 잘못된 Range 헤더는 무시
+        }
+
+        List<ByteRange> rangeList = new ArrayList<>();
+        long total = 0L;
+        for (HttpRange httpRange : httpRangeList) {
+            ByteRange range;
+            try {
+                range = new ByteRange(httpRange.getRangeStart(length), httpRange.getRangeEnd(length));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (range.length() <= 0) continue;
+            rangeList.add(range);
+            total += range.length();
+        }
+        if (rangeList.isEmpty()) return null;
+        // 겹치는 범위를 반복해서 요청하는 경우 전체 파일보다 많이 보내지 않는다.
+        if (total > length) return List.of();
+        return rangeList;
+    }
+
+    private void sendMultipart(HttpServletResponse response, Path path, String contentType,
+                               List<ByteRange> rangeList, long length, boolean head) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaderList = new ArrayList<>();
+        long contentLength = 0L;
+        for (ByteRange range : rangeList) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + range.toContentRange(length) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaderList.add(partHeader);
+            contentLength += partHeader.length + range.length();
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (head) return;
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int i = 0; i < rangeList.size(); i++) {
+                out.write(partHeaderList.get(i));
+                transfer(channel, rangeList.get(i).start(), rangeList.get(i).length(), target);
+            }
+        }
+        out.write(closing);
+    }
+
+    private void send(HttpServletRequest request, HttpServletResponse response, Path path, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 본문은 서블릿이 끝난 뒤 Tomcat 이 sendfile 로 직접 보낸다.
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private void transfer(FileChannel channel, long start, long count, WritableByteChannel target) throws IOException {
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) throw new IOException("첨부파일을 끝까지 읽지 못했습니다. 위치: " + position);
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    private boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            // If-None-Match 는 weak 비교
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    private record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String toContentRange(long total) {
+            return "bytes " + start + "-" + end + "/" + total;
+        }
+    }
+}
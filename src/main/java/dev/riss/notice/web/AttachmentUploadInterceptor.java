@@ -0,0 +1,45 @@
+package dev.riss.notice.web;
+
+import dev.riss.notice.service.AttachmentUploadLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * multipart 첨부파일 업로드 요청의 업로드 한도(AttachmentUploadLimiter) 를 본문을 읽기 전에 잡는다.
+ * multipart 는 resolve-lazily 로 파라미터를 처음 읽을 때 파싱(임시 파일 기록) 되므로, 컨트롤러 인자를 만들기 전인 여기서
+ * Content-Length 만큼 예약하고, 한도를 넘으면 본문을 받지 않고 바로 503 으로 거절한다.
+ * 길이를 알 수 없는(chunked) 요청은 최대 요청 크기만큼 예약한다.
+ */
+@Component
+public class AttachmentUploadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AttachmentUploadInterceptor.class.getName() + ".permit";
+
+    private final AttachmentUploadLimiter attachmentUploadLimiter;
+    private final long maxRequestSize;
+
+    public AttachmentUploadInterceptor(AttachmentUploadLimiter attachmentUploadLimiter,
+                                       @Value("${spring.servlet.multipart.max-request-size:10MB}") DataSize maxRequestSize) {
+        this.attachmentUploadLimiter = attachmentUploadLimiter;
+        this.maxRequestSize = maxRequestSize.toBytes();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"POST".equals(request.getMethod())) return true;
+
+        long contentLength = request.getContentLengthLong();
+        long uploadBytes = contentLength < 0 ? maxRequestSize : contentLength;
+        request.setAttribute(PERMIT_ATTRIBUTE, attachmentUploadLimiter.acquire(uploadBytes));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AttachmentUploadLimiter.Permit permit) permit.close();
+    }
+}
@@ -1,19 +1,44 @@
 package dev.riss.notice.web;
 
+import dev.riss.notice.service.NoticeExportFormat;
+import dev.riss.notice.service.NoticeExportService;
+import dev.riss.notice.service.NoticeImportService;
+import dev.riss.notice.service.EncodedResponse;
 import dev.riss.notice.service.NoticeService;
 import dev.riss.notice.web.dto.request.AttachmentDeleteRequestDto;
 import dev.riss.notice.web.dto.request.NoticeRequestDto;
 import dev.riss.notice.web.dto.response.ResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("api/v1/notice")
 public class NoticeController {
 
+    // 게시글 목록/단건 응답은 캐시에 두되 매번 ETag, Last-Modified 로 재검증하도록
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
     private final NoticeService noticeService;
+    private final NoticeImportService noticeImportService;
+    private final NoticeExportService noticeExportService;
+    private final AttachmentDownloadHandler attachmentDownloadHandler;
 
 
     /**
@@ -26,6 +51,20 @@ public class NoticeController {
         return noticeService.createNotice(noticeDto);
     }
 
+    /**
+     * 게시글 일괄 등록 API
+     * NDJSON 또는 JSON 배열을 한 행씩 읽어 배치로 등록하고, 행 단위 결과와 요약을 NDJSON 으로 응답
+     * @param body
+     * @param response
+     * @throws IOException
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void importNotices(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        noticeImportService.importNotices(body, response.getOutputStream());
+    }
+
     /**
      * 게시글 수정 API
      * @param noticeUid
@@ -50,22 +89,105 @@ public class NoticeController {
 
     /**
      * 게시글 전체 조회 API
+     * cursor 파라미터가 있으면 (빈 값이면 첫 페이지) keyset 페이징으로 조회하고, 없으면 기존 page 번호로 조회
+     * 게시 중인 게시글 스냅샷으로 응답하는 경우 스냅샷 version 으로 ETag 를 내려주고, If-None-Match 가 일치하면 목록을 만들지 않고 304 를 반환
+     * 스냅샷 응답은 페이지별로 직렬화(JSON, gzip)해 둔 바이트를 그대로 내려준다.
      * @param page
+     * @param cursor
+     * @param webRequest
+     * @param response
      * @return
      */
     @GetMapping("/all")
-    public ResponseDto findAll(@RequestParam(required = false, defaultValue = "0", name = "page") int page) {
-        return noticeService.findAll(page);
+    public ResponseEntity<?> findAll(@RequestParam(required = false, defaultValue = "0", name = "page") int page,
+                                     @RequestParam(required = false, name = "cursor") String cursor,
+                                     WebRequest webRequest,
+                                     HttpServletResponse response) {
+        String etag = noticeService.findListETag();
+        if (etag == null) {
+            return ResponseEntity.ok(cursor != null ? noticeService.findAllByCursor(cursor) : noticeService.findAll(page));
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        if (webRequest.checkNotModified(etag)) return null;
+        return toResponseEntity(noticeService.findEncodedAll(etag, page, cursor), webRequest);
+    }
+
+    /**
+     * 게시글 검색 API
+     * 제목과 내용을 BM25 점수순으로 검색 (만료된 게시글 포함)
+     * @param query
+     * @param size 최대 100
+     * @return
+     */
+    @GetMapping("/search")
+    public ResponseDto searchNotices(@RequestParam("q") String query,
+                                     @RequestParam(required = false, defaultValue = "10", name = "size") int size) {
+        return noticeService.searchNotices(query, size);
+    }
+
+    /**
+     * 게시글 제목 자동완성 API
+     * 제목이 q 로 시작하는 게시글을 조회수 순으로 조회 (대소문자, 전각/반각, 연속 공백 무시)
+     * @param query
+     * @param size 최대 20
+     * @return
+     */
+    @GetMapping("/suggest")
+    public ResponseDto suggestNotices(@RequestParam("q") String query,
+                                      @RequestParam(required = false, defaultValue = "10", name = "size") int size) {
+        return noticeService.suggestNotices(query, size);
+    }
+
+    /**
+     * 게시글 내보내기 API
+     * 만료된 게시글을 포함한 전체 게시글을 NDJSON 또는 CSV 로 스트리밍
+     * @param format ndjson | csv
+     * @param attachments 첨부파일 메타데이터 포함 여부
+     * @return
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportNotices(@RequestParam(required = false, defaultValue = "ndjson", name = "format") String format,
+                                                               @RequestParam(required = false, defaultValue = "false", name = "attachments") boolean attachments) {
+        NoticeExportFormat exportFormat = NoticeExportFormat.from(format);
+        String fileName = "notices-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + "." + exportFormat.getExtension();
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(out -> noticeExportService.exportNotices(exportFormat, attachments, out));
     }
 
     /**
      * 게시글 단건 조회 API
+     * 게시글 수정 시각으로 weak ETag 와 Last-Modified 를 내려주고, If-None-Match / If-Modified-Since 가 일치하면 본문 없이 304 를 반환
+     * (조회수는 수정 시각에 포함되지 않으므로 weak. 304 인 경우에도 조회수는 증가)
+     * 본문은 캐시에 직렬화해 둔 바이트에 현재 조회수만 끼워 넣어 내려준다.
      * @param noticeUid
+     * @param webRequest
+     * @param response
      * @return
      */
     @GetMapping("/{uid}")
-    public ResponseDto findById(@PathVariable("uid") Long noticeUid) {
-        return noticeService.findById(noticeUid);
+    public ResponseEntity<byte[]> findById(@PathVariable("uid") Long noticeUid,
+                                           WebRequest webRequest,
+                                           HttpServletResponse response) {
+        EncodedResponse encoded = noticeService.findEncodedById(noticeUid);
+
+        if (encoded.getEtag() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+            if (webRequest.checkNotModified(encoded.getEtag(), encoded.getLastModified())) return null;
+        }
+        return toResponseEntity(encoded, webRequest);
+    }
+
+    /**
+     * 게시글 단건 조회 캐시 통계 조회 API
+     * @return
+     */
+    @GetMapping("/cache/stats")
+    public ResponseDto findDetailCacheStats() {
+        return noticeService.findDetailCacheStats();
     }
 
     /**
@@ -80,6 +202,40 @@ public class NoticeController {
         return noticeService.uploadNoticeAttachment(attachments, noticeUid);
     }
 
+    /**
+     * 게시글 첨부파일 스트리밍 등록 API
+     * multipart 임시 저장 없이 요청 본문(파일 내용)을 최종 위치에 바로 기록
+     * @param noticeUid
+     * @param fileName 원본 파일 이름
+     * @param contentLength
+     * @param body
+     * @return
+     */
+    @PostMapping(value = "/{uid}/attachment/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseDto uploadNoticeAttachmentStream(@PathVariable("uid") Long noticeUid,
+                                                    @RequestParam("fileName") String fileName,
+                                                    @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+                                                    InputStream body) {
+        return noticeService.uploadNoticeAttachmentStream(noticeUid, fileName, contentLength, body);
+    }
+
+    /**
+     * 게시글 첨부파일 다운로드 API
+     * Range(다중 범위 포함), ETag(If-None-Match, If-Range) 를 지원하며 원본 파일 이름으로 내려준다.
+     * @param noticeUid
+     * @param attachmentUid
+     * @param request
+     * @param response
+     * @throws IOException
+     */
+    @GetMapping("/{uid}/attachment/{attachmentUid}")
+    public void downloadNoticeAttachment(@PathVariable("uid") Long noticeUid,
+                                         @PathVariable("attachmentUid") Long attachmentUid,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) throws IOException {
+        attachmentDownloadHandler.handle(noticeService.findAttachmentFile(noticeUid, attachmentUid), request, response);
+    }
+
     /**
      * 게시글 첨부파일 삭제 API
      * @param noticeUid
@@ -91,4 +247,28 @@ public class NoticeController {
                                               @RequestBody AttachmentDeleteRequestDto attachmentDeleteRequestDto) {
         return noticeService.deleteNoticeAttachment(noticeUid, attachmentDeleteRequestDto);
     }
-}
+
+    // gzip 본문이 있고 클라이언트가 받을 수 있으면 압축된 바이트를 그대로 내려준다.
+    private static ResponseEntity<byte[]> toResponseEntity(EncodedResponse encoded, WebRequest webRequest) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (encoded.getGzip() == null) return builder.body(encoded.getJson());
+
+        builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (!acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) return builder.body(encoded.getJson());
+        return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.getGzip());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].replace(" ", "");
+                if (parameter.matches("q=0(\\.0*)?")) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+}
\ No newline at end of file
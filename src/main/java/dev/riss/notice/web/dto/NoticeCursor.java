@@ -0,0 +1,39 @@
+package dev.riss.notice.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 keyset 페이징의 연속 토큰. 마지막으로 내려준 게시글의 (createdAt, uid) 를 담는다.
+ * 클라이언트에게는 내부 구조를 알 수 없는 문자열로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long uid;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + uid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NoticeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new NoticeCursor(LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다. cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.riss.notice.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 내보내기 행. 첨부파일을 포함하지 않으면 attachmentList 는 null 이다.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NoticeExportDto {
+
+    private Long uid;
+    private String title;
+    private String content;
+    private String author;
+    private Long views;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    private List<Attachment> attachmentList;
+
+    @Data
+    @Builder
+    public static class Attachment {
+
+        private Long uid;
+        private String originFileName;
+        private Long fileSize;
+        private String checksum;
+    }
+}
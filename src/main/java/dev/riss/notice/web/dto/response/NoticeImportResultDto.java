@@ -0,0 +1,18 @@
+package dev.riss.notice.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 게시글 일괄 등록의 행 단위 결과. 성공하면 uid, 실패하면 error 가 채워진다.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NoticeImportResultDto {
+
+    private long row;
+    private Long uid;
+    private String error;
+}
@@ -0,0 +1,15 @@
+package dev.riss.notice.web.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NoticeImportSummaryDto {
+
+    private long total;
+    private long succeeded;
+    private long failed;
+    private long elapsedMs;
+    private long rowsPerSecond;
+}
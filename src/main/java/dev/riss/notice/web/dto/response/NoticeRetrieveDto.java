@@ -1,6 +1,7 @@
 package dev.riss.notice.web.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class NoticeRetrieveDto {
 
     private Long uid;
@@ -21,4 +22,8 @@ public class NoticeRetrieveDto {
     private String author;
 
     private List<NoticeAttachmentDto> noticeAttachmentDtoList;
+
+    // 조건부 조회(ETag, Last-Modified) 기준. 응답 본문에는 내려주지 않는다.
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.riss.notice.web.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class NoticeSliceDto {
+
+    private List<NoticeSimpleRetrieveDto> noticeList;
+    private String nextCursor;
+}
@@ -0,0 +1,13 @@
+package dev.riss.notice.web.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NoticeSuggestionDto {
+
+    private Long uid;
+    private String title;
+    private Long views;
+}
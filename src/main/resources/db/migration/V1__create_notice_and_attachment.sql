@@ -0,0 +1,33 @@
+-- 기존 ddl-auto: update 로 만들어지던 스키마
+CREATE SEQUENCE notice_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE attachment_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE notice
+(
+    uid        BIGINT       NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    views      BIGINT       DEFAULT 0 NOT NULL,
+    author     VARCHAR(255) NOT NULL,
+    start_at   TIMESTAMP(6) NOT NULL,
+    end_at     TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (uid)
+);
+
+CREATE TABLE attachment
+(
+    uid              BIGINT NOT NULL,
+    origin_file_name VARCHAR(255),
+    new_file_name    VARCHAR(255),
+    path             VARCHAR(255),
+    file_size        BIGINT,
+    checksum         VARCHAR(255),
+    notice_id        BIGINT,
+    PRIMARY KEY (uid)
+);
+
+-- 게시글별 첨부파일 조회(findAllByNoticeUid, @BatchSize IN 조회)용. 외래 키보다 먼저 만들어 DB 가 별도 인덱스를 만들지 않게 한다.
+CREATE INDEX idx_attachment_notice_id ON attachment (notice_id);
+ALTER TABLE attachment ADD CONSTRAINT fk_attachment_notice FOREIGN KEY (notice_id) REFERENCES notice (uid);
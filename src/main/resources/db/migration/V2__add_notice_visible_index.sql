@@ -0,0 +1,6 @@
+-- 게시 중인(start_at <= now < end_at) 게시글 목록/스냅샷 조회용.
+-- end_at 범위로 읽고, start_at 조건과 created_at, uid 정렬, 조회 컬럼(title) 까지 인덱스 안에서 처리한다. (covering)
+CREATE INDEX idx_notice_visible ON notice (end_at, start_at, created_at, uid, title);
+
+-- 내용 주소 저장소에서 파일을 지우기 전 참조 수 확인(countByNewFileName)용
+CREATE INDEX idx_attachment_new_file_name ON attachment (new_file_name);
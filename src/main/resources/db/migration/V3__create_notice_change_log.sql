@@ -0,0 +1,13 @@
+-- 여러 대로 띄울 때 다른 노드의 캐시/스냅샷/색인을 맞추기 위한 게시글 변경 기록 (outbox)
+-- 게시글 변경과 같은 트랜잭션에서 쓰고, 각 노드는 id 순으로 이어 읽는다. (notice.change-log.*)
+CREATE TABLE notice_change_log
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    notice_uid BIGINT       NOT NULL,
+    origin     VARCHAR(64)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 보관 기간이 지난 기록 삭제용
+CREATE INDEX idx_notice_change_log_created_at ON notice_change_log (created_at);
@@ -0,0 +1,4 @@
+-- 게시 중인 게시글 목록의 커서 페이지 조회(findVisibleSummariesAfterCursor)용.
+-- 최신순(created_at DESC, uid DESC) 으로 커서 위치부터 읽고, 게시 기간 조건과 조회 컬럼(title) 까지 인덱스 안에서 처리한다. (정렬 없음, covering)
+-- 한 페이지(11건)를 채우면 멈추므로, 최근 게시글이 대부분 게시 중이면 읽는 양이 페이지 크기에 가깝다.
+CREATE INDEX idx_notice_created ON notice (created_at DESC, uid DESC, start_at, end_at, title);
@@ -0,0 +1,167 @@
+package dev.riss.notice;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.riss.notice.service.NoticeService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가상 스레드 모드에서 주요 API 를 호출하는 동안 JFR jdk.VirtualThreadPinned 이벤트를 기록하고,
+ * 애플리케이션 코드(dev.riss.notice)를 지나는 pinning 이 있으면 실패한다. (가상 스레드가 있는 JDK 21 이상에서만 실행)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "notice.view-count.journal.enabled=true",
+                "notice.suggest.debounce-ms=0", "spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"})
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int CLIENTS = 16;
+    private static final int ROUNDS = 20;
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("notice.attachment.directory", () -> directory.resolve("uploads").toString());
+        registry.add("notice.view-count.journal.directory", () -> directory.resolve("journal").toString());
+        // 조회수 저널 세그먼트 전환(roll)도 지나도록 작게
+        registry.add("notice.view-count.journal.segment-bytes", () -> "1024");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private NoticeService noticeService;
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void noPinningInApplicationCode() throws Exception {
+
+        // given
+        Path file = directory.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            // when
+            ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) futures.add(executor.submit(exercise(i)));
+            for (Future<Void> future : futures) future.get();
+            executor.shutdown();
+            // 주기 작업(조회수 DB 동기화)도 가상 스레드에서
+            applicationTaskExecutor.submit(noticeService::syncViewCountsToDatabase).get();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                .filter(VirtualThreadPinningTest::passesApplicationCode)
+                .toList();
+        assertTrue(pinned.isEmpty(), () -> "가상 스레드 pinning " + pinned.size() + "건\n"
+                + pinned.stream().map(VirtualThreadPinningTest::describe).distinct().collect(Collectors.joining("\n\n")));
+    }
+
+    /**
+     * 등록 -> 첨부파일 업로드 -> 단건/전체 조회 -> 검색/자동완성 -> 첨부파일 다운로드 -> 수정 -> 삭제
+     */
+    private Callable<Void> exercise(int clientIndex) {
+        return () -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                String created = send(HttpRequest.newBuilder(uri(""))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(noticeJson("pinning " + clientIndex + "-" + round))));
+                long uid = ((Number) JsonPath.read(created, "$.data.uid")).longValue();
+
+                String uploaded = send(HttpRequest.newBuilder(uri("/" + uid + "/attachment/stream?fileName=pinning.txt"))
+                        .header("Content-Type", "application/octet-stream")
+                        .POST(HttpRequest.BodyPublishers.ofString("첨부파일 " + clientIndex + "-" + round)));
+                long attachmentUid = ((Number) JsonPath.read(uploaded, "$.data.uid")).longValue();
+
+                for (int i = 0; i < 5; i++) send(HttpRequest.newBuilder(uri("/" + uid)).GET());
+                send(HttpRequest.newBuilder(uri("/all?page=0")).GET());
+                send(HttpRequest.newBuilder(uri("/search?q=pinning")).GET());
+                send(HttpRequest.newBuilder(uri("/suggest?q=pin")).GET());
+                client.send(HttpRequest.newBuilder(uri("/" + uid + "/attachment/" + attachmentUid)).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                send(HttpRequest.newBuilder(uri("/" + uid))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(noticeJson("pinning updated " + clientIndex + "-" + round))));
+                send(HttpRequest.newBuilder(uri("/" + uid)).DELETE());
+            }
+            return null;
+        };
+    }
+
+    private String send(HttpRequest.Builder builder) throws Exception {
+        HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        assertTrue(JsonPath.<Boolean>read(response.body(), "$.success"), response.body());
+        return response.body();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/v1/notice" + path);
+    }
+
+    private static String noticeJson(String title) {
+        return "{\"title\":\"" + title + "\",\"content\":\"" + title + " 내용\",\"author\":\"관리자\","
+                + "\"startAt\":\"2000-01-01 00:00:00\",\"endAt\":\"2999-12-31 00:00:00\"}";
+    }
+
+    private static boolean passesApplicationCode(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().startsWith("dev.riss.notice."));
+    }
+
+    private static String describe(RecordedEvent event) {
+        return event.getStackTrace().getFrames().stream()
+                .limit(30)
+                .map(VirtualThreadPinningTest::describeFrame)
+                .collect(Collectors.joining("\n    at ", "jdk.VirtualThreadPinned\n    at ", ""));
+    }
+
+    private static String describeFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
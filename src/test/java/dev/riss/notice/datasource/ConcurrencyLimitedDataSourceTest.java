@@ -0,0 +1,58 @@
+package dev.riss.notice.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    @Test
+    void waitsForPermitAndTimesOut() throws Exception {
+
+        // given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+
+        // when
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // then (허가가 모두 사용 중이면 제한 시간 뒤 실패)
+        assertEquals(2, dataSource.getActive());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(2)).getConnection();
+
+        // 닫으면 허가가 반환되고, 두 번 닫아도 한 번만 반환
+        first.close();
+        first.close();
+        assertEquals(1, dataSource.getActive());
+        Connection third = dataSource.getConnection();
+        assertEquals(2, dataSource.getActive());
+
+        second.close();
+        third.close();
+        assertEquals(0, dataSource.getActive());
+    }
+
+    @Test
+    void releasesPermitWhenTargetFails() throws Exception {
+
+        // given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        // when
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        // then
+        assertEquals(0, dataSource.getActive());
+    }
+}
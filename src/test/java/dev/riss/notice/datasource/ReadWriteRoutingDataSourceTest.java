@@ -0,0 +1,137 @@
+package dev.riss.notice.datasource;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.riss.notice.config.ResponseAdvice;
+import dev.riss.notice.service.NoticeService;
+import dev.riss.notice.web.NoticeController;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 primary, replica 로 띄우고 (복제는 하지 않음) 어느 쪽에서 읽고 쓰는지 확인한다.
+ */
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "notice.datasource.replica.url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "notice.datasource.replica.max-lag=1m",
+        "notice.attachment.directory=build/test-uploads", "notice.suggest.debounce-ms=0"})
+class ReadWriteRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    static {
+        // 기동 시 게시글 스냅샷/검색 색인을 replica 에서 읽으므로 컨텍스트보다 먼저 스키마를 만든다.
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    private final String url = "/api/v1/notice";
+
+    @Autowired
+    private NoticeController noticeController;
+    @Autowired
+    private NoticeService noticeService;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(noticeController).setControllerAdvice(new ResponseAdvice()).build();
+    }
+
+    @Test
+    void readsFromReplicaUntilClientWrites() throws Exception {
+
+        // given (replica 에만 있는 게시글)
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.update("INSERT INTO notice (uid, title, content, views, author, start_at, end_at, created_at, updated_at) "
+                + "VALUES (100000, 'replica 게시글', '내용', 0, '관리자', DATEADD('DAY', -1, NOW()), DATEADD('MONTH', 1, NOW()), NOW(), NOW())");
+
+        // when & then (readOnly 조회는 replica)
+        mvc.perform(MockMvcRequestBuilders.get(url + "/100000"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.success").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.title").value("replica 게시글"));
+
+        // 쓰기는 primary, 응답에 read-your-writes 쿠키
+        MvcResult created = mvc.perform(MockMvcRequestBuilders.post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "primary 게시글", "content": "내용", "author": "관리자",
+                                 "startAt": "2000-01-01 00:00:00", "endAt": "2999-12-31 00:00:00"}
+                                """))
+                .andExpect(MockMvcResultMatchers.cookie().exists(ReadWriteRoutingDataSource.COOKIE_NAME))
+                .andReturn();
+        long uid = ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.data.uid")).longValue();
+        Cookie cookie = created.getResponse().getCookie(ReadWriteRoutingDataSource.COOKIE_NAME);
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM notice WHERE uid = ?", Integer.class, uid));
+        assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM notice WHERE uid = ?", Integer.class, uid));
+
+        // 쿠키가 없는 클라이언트는 아직 복제되지 않은 replica 에서 읽고, 쓴 클라이언트는 primary 에서 읽는다.
+        mvc.perform(MockMvcRequestBuilders.get(url + "/" + uid))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.success").value(false));
+        mvc.perform(MockMvcRequestBuilders.get(url + "/" + uid).cookie(cookie))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.success").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.title").value("primary 게시글"));
+
+        // 만료 시각을 max-lag 보다 길게 늘린 쿠키는 인정하지 않음
+        Cookie forged = new Cookie(ReadWriteRoutingDataSource.COOKIE_NAME, Long.toString(Long.MAX_VALUE));
+        mvc.perform(MockMvcRequestBuilders.get(url + "/100000").cookie(forged))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.title").value("replica 게시글"));
+
+        // 조회수 DB 동기화는 primary
+        noticeService.syncViewCountsToDatabase();
+        assertEquals(1L, primary.queryForObject("SELECT views FROM notice WHERE uid = ?", Long.class, uid));
+        assertEquals(0, primary.queryForObject("SELECT COUNT(*) FROM notice WHERE uid = 100000", Integer.class));
+    }
+
+    @Test
+    void viewCountsDoNotDropAfterFlushWhileReplicaLags() throws Exception {
+
+        // given (primary, replica 에 같은 게시글. 조회 3번은 replica 에서 읽은 값 + 동기화 전 증가분)
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        String insert = "INSERT INTO notice (uid, title, content, views, author, start_at, end_at, created_at, updated_at) "
+                + "VALUES (100001, '조회수 게시글', '내용', 100, '관리자', DATEADD('DAY', -1, NOW()), DATEADD('MONTH', 1, NOW()), NOW(), NOW())";
+        primary.update(insert);
+        replica.update(insert);
+        for (long views = 100; views < 103; views++) {
+            mvc.perform(MockMvcRequestBuilders.get(url + "/100001"))
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.data.views").value(views));
+        }
+
+        // when (조회수 DB 동기화는 primary 에만 반영되고, replica 는 아직 100)
+        noticeService.syncViewCountsToDatabase();
+        assertEquals(103L, primary.queryForObject("SELECT views FROM notice WHERE uid = 100001", Long.class));
+        assertEquals(100L, replica.queryForObject("SELECT views FROM notice WHERE uid = 100001", Long.class));
+
+        // then (max-lag 동안은 primary 에서 다시 읽으므로 조회수가 줄어 보이지 않음)
+        mvc.perform(MockMvcRequestBuilders.get(url + "/100001"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.views").value(103));
+
+        // primary 에서 읽은 값은 캐시됨 (DB 를 직접 바꿔도 캐시된 값 + 증가분)
+        primary.update("UPDATE notice SET views = 500 WHERE uid = 100001");
+        mvc.perform(MockMvcRequestBuilders.get(url + "/100001"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.views").value(104));
+    }
+}
@@ -0,0 +1,211 @@
+package dev.riss.notice.domain.notice;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=dev.riss.notice.domain.notice.NoticeRepositoryTest$SqlCapture"})
+class NoticeRepositoryTest {
+
+    /**
+     * 실행된 SQL 을 기록해 두었다가 실행 계획(EXPLAIN) 확인에 쓴다.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        static String last() {
+            return statements.get(statements.size() - 1);
+        }
+    }
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    Notice setUpData(int attachmentCount) {
+        return setUpData(attachmentCount, LocalDateTime.now().minusDays(1));
+    }
+
+    Notice setUpData(int attachmentCount, LocalDateTime startAt) {
+        Notice notice = Notice
+                .builder()
+                .title("공지사항 제목")
+                .content("공지사항 내용")
+                .author("이경환")
+                .startAt(startAt)
+                .endAt(LocalDateTime.now().plusMonths(1))
+                .views(0L)
+                .attachmentList(new ArrayList<>())
+                .build();
+        entityManager.persist(notice);
+
+        for (int i = 0; i < attachmentCount; i++) {
+            Attachment attachment = Attachment.builder()
+                    .originFileName("파일" + i + ".pdf")
+                    .newFileName(notice.getUid() + "_" + i + ".pdf")
+                    .path("uploads")
+                    .notice(notice)
+                    .build();
+            entityManager.persist(attachment);
+        }
+        return notice;
+    }
+
+    void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findWithAttachmentsByUidInSingleStatement() {
+
+        // given
+        Notice notice = setUpData(3);
+        clearPersistenceContext();
+
+        // when
+        Notice findNotice = noticeRepository.findWithAttachmentsByUid(notice.getUid()).get();
+        List<String> originFileNames = findNotice.getAttachmentList().stream().map(Attachment::getOriginFileName).toList();
+
+        // then
+        assertEquals(List.of("파일0.pdf", "파일1.pdf", "파일2.pdf"), originFileNames.stream().sorted().toList());
+        assertEquals(1L, statistics.getPrepareStatementCount()); // 게시글 + 첨부파일을 한 번에 조회
+    }
+
+    @Test
+    void findWithAttachmentsByUidWithoutAttachments() {
+
+        // given
+        Notice notice = setUpData(0);
+        clearPersistenceContext();
+
+        // when
+        Notice findNotice = noticeRepository.findWithAttachmentsByUid(notice.getUid()).get();
+
+        // then
+        assertTrue(findNotice.getAttachmentList().isEmpty());
+        assertEquals(1L, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * 마지막으로 실행된 SQL 의 H2 실행 계획
+     */
+    String explainLastStatement(Object... parameters) {
+        var query = entityManager.createNativeQuery("EXPLAIN " + SqlCapture.last());
+        for (int i = 0; i < parameters.length; i++) query.setParameter(i + 1, parameters[i]);
+        return (String) query.getSingleResult();
+    }
+
+    @Test
+    void findVisibleSummariesUsesVisibleIndex() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Notice visible = setUpData(0);
+        setUpData(0, now.plusDays(1)); // 게시 시작 전
+        clearPersistenceContext();
+
+        // when
+        List<NoticeSummary> summaries = noticeRepository.findVisibleSummaries(now, PageRequest.of(0, 10)).getContent();
+        String plan = explainLastStatement(now, now, 11);
+
+        // then
+        assertEquals(List.of(visible.getUid()), summaries.stream().map(NoticeSummary::getUid).toList());
+        assertTrue(plan.contains("IDX_NOTICE_VISIBLE: START_AT <= ?1"), plan); // end_at 범위 + start_at 조건을 인덱스로 처리
+    }
+
+    @Test
+    void findVisibleSummariesAfterCursorUsesCreatedIndex() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Notice first = setUpData(0);
+        setUpData(0);
+        clearPersistenceContext();
+        NoticeSummary cursor = noticeRepository.findVisibleSummaries(now, PageRequest.of(0, 1)).getContent().get(0); // DB 에 저장된 createdAt 기준
+
+        // when
+        List<NoticeSummary> summaries = noticeRepository.findVisibleSummariesAfterCursor(now, cursor.getCreatedAt(), cursor.getUid(),
+                PageRequest.of(0, 10)).getContent();
+        String plan = explainLastStatement(now, now, cursor.getCreatedAt(), cursor.getCreatedAt(), cursor.getUid(), 11);
+
+        // then
+        assertEquals(List.of(first.getUid()), summaries.stream().map(NoticeSummary::getUid).toList());
+        assertTrue(plan.contains("IDX_NOTICE_CREATED"), plan);
+        assertTrue(plan.contains("index sorted"), plan); // 정렬 단계 없이 인덱스 순서대로 읽음
+    }
+
+    @Test
+    void findSchedulesByEndAtAfterUsesVisibleIndex() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        setUpData(0);
+        setUpData(0, now.plusDays(1));
+        clearPersistenceContext();
+
+        // when
+        List<NoticeSummary> summaries = noticeRepository.findSchedulesByEndAtAfter(now);
+        String plan = explainLastStatement(now);
+
+        // then
+        assertEquals(2, summaries.size()); // 게시 시작 전 게시글 포함
+        assertTrue(plan.contains("IDX_NOTICE_VISIBLE: END_AT > ?1"), plan);
+    }
+
+    @Test
+    void attachmentQueriesUseIndexes() {
+
+        // given
+        Notice notice = setUpData(2);
+        clearPersistenceContext();
+
+        // when
+        List<Attachment> attachments = attachmentRepository.findAllByNoticeUid(notice.getUid());
+        String byNoticePlan = explainLastStatement(notice.getUid());
+        long count = attachmentRepository.countByNewFileName(notice.getUid() + "_0.pdf");
+        String byFileNamePlan = explainLastStatement(notice.getUid() + "_0.pdf");
+
+        // then
+        assertEquals(2, attachments.size());
+        assertEquals(1L, count);
+        assertTrue(byNoticePlan.contains("IDX_ATTACHMENT_NOTICE_ID: NOTICE_ID = ?1"), byNoticePlan);
+        assertTrue(byFileNamePlan.contains("IDX_ATTACHMENT_NEW_FILE_NAME: NEW_FILE_NAME = ?1"), byFileNamePlan);
+    }
+}
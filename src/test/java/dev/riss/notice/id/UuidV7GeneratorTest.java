@@ -0,0 +1,83 @@
+package dev.riss.notice.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void versionVariantAndTimestamp() {
+
+        // given
+        long millis = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+
+        // when
+        UUID uuid = generator.nextUuid();
+
+        // then
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(millis, uuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void monotonicWithinSameMillisecond() {
+
+        // given
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        // when (한 밀리초의 순번 4096 개를 넘겨도)
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) ids.add(generator.nextId());
+
+        // then (문자열 순서가 생성 순서와 같음)
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(null);
+        assertEquals(ids, sorted);
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    void uniqueAcrossThreads() throws Exception {
+
+        // given
+        UuidV7Generator generator = new UuidV7Generator();
+        int threadCount = 8;
+        int idsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                List<String> ids = new ArrayList<>(idsPerThread);
+                for (int i = 0; i < idsPerThread; i++) ids.add(generator.nextId());
+                return ids;
+            }));
+        }
+
+        // then (스레드마다 순서가 유지되고 전체에서 중복이 없음)
+        Set<String> all = new HashSet<>();
+        for (Future<List<String>> future : futures) {
+            List<String> ids = future.get();
+            for (int i = 1; i < ids.size(); i++) assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+            all.addAll(ids);
+        }
+        executor.shutdown();
+        assertEquals(threadCount * idsPerThread, all.size());
+    }
+}
@@ -0,0 +1,85 @@
+package dev.riss.notice.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    List<Long> uids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getUid).toList();
+    }
+
+    @Test
+    void tokenizeKoreanIntoBigrams() {
+
+        // when
+        List<String> tokens = BigramTokenizer.tokenize("2025년 공지사항, Spring 안내");
+
+        // then
+        assertEquals(List.of("2025", "년", "공지", "지사", "사항", "spring", "안내"), tokens);
+    }
+
+    @Test
+    void rankByBm25AndKeepTopK() {
+
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, "시스템 점검 안내", "서버 점검이 예정되어 있습니다.");
+        index.add(2L, "휴무 안내", "연휴 기간 휴무입니다. 점검 일정은 별도 공지합니다.");
+        index.add(3L, "채용 공고", "신입 사원을 모집합니다.");
+
+        // when
+        List<SearchHit> hits = index.search("점검", 10);
+        List<SearchHit> top1 = index.search("점검 안내", 1);
+
+        // then
+        assertEquals(List.of(1L, 2L), uids(hits)); // 제목에 포함된 게시글이 먼저
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+        assertEquals(List.of(1L), uids(top1));
+        assertEquals(List.of(), index.search("없는단어", 10));
+    }
+
+    @Test
+    void updateRemoveAndCompact() {
+
+        // given
+        InvertedIndex index = new InvertedIndex();
+        for (long uid = 1; uid <= 2000; uid++) index.add(uid, "공지 " + uid, "내용");
+
+        // when
+        index.add(7L, "변경된 제목", "내용");
+        for (long uid = 1000; uid <= 2000; uid++) index.remove(uid); // 삭제 비율이 높아져 정리됨
+
+        // then
+        assertEquals(999, index.size());
+        assertEquals(List.of(7L), uids(index.search("변경", 10)));
+        assertEquals(List.of(), index.search("1500", 10));
+        assertEquals(List.of(999L), uids(index.search("999", 10)));
+        assertEquals(10, index.search("공지", 10).size());
+    }
+
+    @Test
+    void appendPartialIndexes() {
+
+        // given
+        InvertedIndex first = new InvertedIndex();
+        first.add(1L, "첫번째 공지", "");
+        InvertedIndex second = new InvertedIndex();
+        second.add(2L, "두번째 공지", "");
+        second.add(3L, "삭제된 글", "");
+        second.remove(3L);
+
+        // when
+        InvertedIndex merged = new InvertedIndex();
+        merged.append(first);
+        merged.append(second);
+
+        // then
+        assertEquals(2, merged.size());
+        assertEquals(List.of(1L, 2L), uids(merged.search("공지", 10)).stream().sorted().toList());
+        assertEquals(List.of(), merged.search("삭제", 10));
+    }
+}
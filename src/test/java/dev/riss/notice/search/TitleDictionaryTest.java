@@ -0,0 +1,90 @@
+package dev.riss.notice.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TitleDictionaryTest {
+
+    List<Long> uids(List<TitleSuggestion> suggestions) {
+        return suggestions.stream().map(TitleSuggestion::getUid).toList();
+    }
+
+    @Test
+    void suggestByPrefixOrderedByViews() {
+
+        // given
+        TitleDictionary dictionary = TitleDictionary.build(List.of(
+                new TitleDictionary.Entry(1L, "공지사항 안내", 10L),
+                new TitleDictionary.Entry(2L, "공지 변경", 30L),
+                new TitleDictionary.Entry(3L, "ＳＰＲＩＮＧ  업데이트", 5L),
+                new TitleDictionary.Entry(4L, "공모전 안내", 100L),
+                new TitleDictionary.Entry(5L, "공지사항 정정", 10L)));
+
+        // when
+        List<TitleSuggestion> suggestions = dictionary.suggest("공지", 10);
+
+        // then
+        assertEquals(List.of(2L, 5L, 1L), uids(suggestions)); // 조회수가 같으면 최근(uid 가 큰) 게시글 먼저
+        assertEquals(List.of(2L, 5L), uids(dictionary.suggest("공지", 2)));
+        assertEquals(List.of(4L, 2L, 5L, 1L), uids(dictionary.suggest("공", 10)));
+        assertEquals("ＳＰＲＩＮＧ  업데이트", dictionary.suggest("spring 업", 10).get(0).getTitle()); // 원본 제목으로 반환
+        assertEquals(List.of(), dictionary.suggest("공지사항 안내입니다", 10));
+        assertEquals(List.of(), dictionary.suggest(" ", 10));
+    }
+
+    @Test
+    void mergeKeepsViewsAndSwapsTitles() {
+
+        // given
+        TitleDictionary dictionary = TitleDictionary.build(List.of(
+                new TitleDictionary.Entry(1L, "서버 점검", 10L),
+                new TitleDictionary.Entry(2L, "서버 이전", 20L),
+                new TitleDictionary.Entry(3L, "휴무 안내", 30L)));
+
+        // when
+        TitleDictionary merged = dictionary.merge(
+                List.of(new TitleDictionary.Entry(1L, "휴무 일정", -1L), new TitleDictionary.Entry(4L, "서버 증설", -1L)),
+                new long[]{2L},
+                Map.of(1L, 50L, 3L, 1L));
+
+        // then
+        assertEquals(List.of(1L, 3L), uids(merged.suggest("휴무", 10)));
+        assertEquals(60L, merged.suggest("휴무", 10).get(0).getViews()); // 기존 조회수 + 증가분
+        assertEquals(List.of(4L), uids(merged.suggest("서버", 10)));
+        assertEquals(List.of(2L, 1L), uids(dictionary.suggest("서버", 10))); // 기존 사전은 그대로
+    }
+
+    @Test
+    void suggestMatchesBruteForce() {
+
+        // given
+        Random random = new Random(42);
+        String[] words = {"공지", "공지사항", "안내", "점검", "서버", "a", "ab", "abc"};
+        List<TitleDictionary.Entry> entries = new ArrayList<>();
+        for (long uid = 1; uid <= 2000; uid++) {
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            entries.add(new TitleDictionary.Entry(uid, title, random.nextInt(50)));
+        }
+        TitleDictionary dictionary = TitleDictionary.build(entries);
+
+        for (String prefix : List.of("공", "공지 ", "공지사항 안", "a", "ab a", "서버 점검", "없음")) {
+            // when
+            List<TitleSuggestion> suggestions = dictionary.suggest(prefix, 5);
+
+            // then
+            List<Long> expected = entries.stream()
+                    .filter(entry -> entry.getTitle().startsWith(prefix.strip()))
+                    .sorted((a, b) -> a.getWeight() != b.getWeight() ? Long.compare(b.getWeight(), a.getWeight()) : Long.compare(b.getUid(), a.getUid()))
+                    .limit(5)
+                    .map(TitleDictionary.Entry::getUid)
+                    .toList();
+            assertEquals(expected, uids(suggestions), prefix);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.riss.notice.service;
+
+import dev.riss.notice.domain.notice.NoticeChangedEvent;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.domain.notice.NoticeSummary;
+import dev.riss.notice.web.dto.NoticeCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveNoticeSnapshotTest {
+
+    @Mock
+    private NoticeRepository noticeRepositoryMock;
+
+    private ThreadPoolTaskScheduler taskScheduler;
+    private ActiveNoticeSnapshot activeNoticeSnapshot;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        activeNoticeSnapshot = new ActiveNoticeSnapshot(noticeRepositoryMock, taskScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    NoticeSummary summary(long uid, LocalDateTime createdAt, LocalDateTime endAt) {
+        return new NoticeSummary(uid, "공지사항 " + uid, createdAt, now.minusDays(1), endAt);
+    }
+
+    NoticeChangedEvent event(NoticeChangedEvent.Type type, NoticeSummary summary) {
+        return new NoticeChangedEvent(type, summary.getUid(), summary.getTitle(), "", summary.getCreatedAt(),
+                summary.getStartAt(), summary.getEndAt());
+    }
+
+    List<Long> uids(List<NoticeSummary> notices) {
+        return notices.stream().map(NoticeSummary::getUid).toList();
+    }
+
+    @Test
+    void applyChangesWithoutDatabase() {
+
+        // given
+        when(noticeRepositoryMock.findSchedulesByEndAtAfter(any())).thenReturn(List.of(
+                summary(1L, now.minusHours(3), now.plusDays(1)),
+                summary(2L, now.minusHours(2), now.plusDays(1))));
+        activeNoticeSnapshot.load();
+        long loadedVersion = activeNoticeSnapshot.getVersion();
+
+        // when
+        activeNoticeSnapshot.onNoticeChanged(event(NoticeChangedEvent.Type.CREATED, summary(3L, now.minusHours(1), now.plusDays(1))));
+        activeNoticeSnapshot.onNoticeChanged(event(NoticeChangedEvent.Type.UPDATED, summary(1L, now.minusHours(3), now.minusMinutes(1)))); // 게시 종료
+        activeNoticeSnapshot.onNoticeChanged(event(NoticeChangedEvent.Type.DELETED, summary(2L, now.minusHours(2), now.plusDays(1))));
+
+        // then
+        assertEquals(List.of(3L), uids(activeNoticeSnapshot.findPage(0, 10)));
+        assertEquals(loadedVersion + 3, activeNoticeSnapshot.getVersion());
+        verifyNoMoreInteractions(noticeRepositoryMock); // 최초 1회 외에는 DB 를 조회하지 않아야 함
+    }
+
+    @Test
+    void pageAndCursor() {
+
+        // given
+        LocalDateTime createdAt = now.minusHours(1);
+        when(noticeRepositoryMock.findSchedulesByEndAtAfter(any())).thenReturn(List.of(
+                summary(1L, createdAt, now.plusDays(1)),
+                summary(2L, createdAt, now.plusDays(1)),
+                summary(3L, createdAt.plusSeconds(1), now.plusDays(1))));
+
+        // when
+        activeNoticeSnapshot.load();
+
+        // then
+        assertEquals(List.of(3L, 2L), uids(activeNoticeSnapshot.findPage(0, 2)));
+        assertEquals(List.of(1L), uids(activeNoticeSnapshot.findPage(1, 2)));
+        assertTrue(activeNoticeSnapshot.findPage(2, 2).isEmpty());
+        assertEquals(List.of(3L, 2L), uids(activeNoticeSnapshot.findAfter(null, 2)));
+        assertEquals(List.of(1L), uids(activeNoticeSnapshot.findAfter(new NoticeCursor(createdAt, 2L), 2)));
+    }
+
+    @Test
+    void expireWhenEndAtPasses() throws Exception {
+
+        // given
+        when(noticeRepositoryMock.findSchedulesByEndAtAfter(any())).thenReturn(List.of(
+                summary(1L, now.minusHours(2), LocalDateTime.now().plusNanos(300_000_000)),
+                summary(2L, now.minusHours(1), now.plusDays(1))));
+
+        // when
+        activeNoticeSnapshot.load();
+        assertEquals(List.of(2L, 1L), uids(activeNoticeSnapshot.findPage(0, 10)));
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (activeNoticeSnapshot.findPage(0, 10).size() != 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(List.of(2L), uids(activeNoticeSnapshot.findPage(0, 10))); // 타이머로 만료되어야 함
+    }
+
+    @Test
+    void publishWhenStartAtPasses() throws Exception {
+
+        // given
+        when(noticeRepositoryMock.findSchedulesByEndAtAfter(any())).thenReturn(List.of(
+                new NoticeSummary(1L, "공지사항 1", now.minusHours(2), LocalDateTime.now().plusNanos(300_000_000), now.plusDays(1)),
+                summary(2L, now.minusHours(1), now.plusDays(1))));
+
+        // when
+        activeNoticeSnapshot.load();
+        assertEquals(List.of(2L), uids(activeNoticeSnapshot.findPage(0, 10))); // 게시 시작 전
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (activeNoticeSnapshot.findPage(0, 10).size() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(List.of(2L, 1L), uids(activeNoticeSnapshot.findPage(0, 10))); // 타이머로 게시되어야 함
+    }
+}
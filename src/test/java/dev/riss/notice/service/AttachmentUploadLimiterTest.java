@@ -0,0 +1,50 @@
+package dev.riss.notice.service;
+
+import dev.riss.notice.exception.BusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentUploadLimiterTest {
+
+    @Test
+    void rejectWhenConcurrentUploadsExceeded() {
+
+        // given
+        AttachmentUploadLimiter limiter = new AttachmentUploadLimiter(2, DataSize.ofMegabytes(100));
+        AttachmentUploadLimiter.Permit first = limiter.acquire(10);
+        AttachmentUploadLimiter.Permit second = limiter.acquire(10);
+
+        // when
+        // then
+        assertThrows(BusyException.class, () -> limiter.acquire(10));
+        assertEquals(2, limiter.getActiveUploads());
+
+        first.close();
+        second.close();
+        assertEquals(0, limiter.getActiveUploads());
+        assertEquals(0L, limiter.getInFlightBytes());
+    }
+
+    @Test
+    void rejectWhenInFlightBytesExceeded() {
+
+        // given
+        AttachmentUploadLimiter limiter = new AttachmentUploadLimiter(10, DataSize.ofBytes(100));
+        AttachmentUploadLimiter.Permit permit = limiter.acquire(60);
+
+        // when
+        // then
+        assertThrows(BusyException.class, () -> limiter.acquire(50));
+        assertEquals(1, limiter.getActiveUploads()); // 거절된 요청의 permit 은 반환되어야 함
+        assertEquals(60L, limiter.getInFlightBytes());
+
+        permit.close();
+        permit.close(); // 중복 반환은 무시
+        try (AttachmentUploadLimiter.Permit large = limiter.acquire(500)) { // 다른 업로드가 없으면 한도보다 큰 파일도 허용
+            assertEquals(500L, limiter.getInFlightBytes());
+        }
+        assertEquals(0L, limiter.getInFlightBytes());
+    }
+}
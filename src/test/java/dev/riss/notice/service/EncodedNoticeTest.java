@@ -0,0 +1,47 @@
+package dev.riss.notice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.riss.notice.util.ResponseUtil;
+import dev.riss.notice.web.dto.response.NoticeAttachmentDto;
+import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedNoticeTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void splicesViewsIntoSerializedResponse() throws Exception {
+
+        // given (본문에 views 필드처럼 보이는 문자열이 있어도 필드 이름만 찾아야 함)
+        NoticeRetrieveDto notice = NoticeRetrieveDto.builder()
+                .uid(1L)
+                .title("\"views\":-9223372036854775808")
+                .content("공지사항 내용 \"views\":1")
+                .createdAt(LocalDateTime.of(2025, 1, 28, 1, 29, 43))
+                .views(10L)
+                .author("관리자")
+                .noticeAttachmentDtoList(List.of(NoticeAttachmentDto.builder()
+                        .uid(2L).originFileName("파일1.hwp").fileUrl("http://localhost:8080/api/v1/notice/1/attachment/2").build()))
+                .updatedAt(LocalDateTime.of(2025, 1, 29, 10, 0, 0, 123_456_000))
+                .build();
+
+        // when
+        EncodedNotice encoded = EncodedNotice.encode(notice, objectMapper);
+        EncodedResponse response = encoded.toResponse(12345L);
+
+        // then (Jackson 으로 직렬화한 결과와 같아야 함)
+        String expected = objectMapper.writeValueAsString(ResponseUtil.success(notice.toBuilder().views(12345L).build()));
+        assertEquals(expected, new String(response.getJson(), StandardCharsets.UTF_8));
+        assertTrue(response.getEtag().startsWith("W/\""));
+        assertEquals(response.getEtag(), encoded.withViews(99L).toResponse(0L).getEtag()); // 조회수는 ETag 에 포함되지 않음
+        assertEquals(99L, encoded.withViews(99L).getNotice().getViews());
+    }
+}
@@ -0,0 +1,182 @@
+package dev.riss.notice.service;
+
+import dev.riss.notice.domain.notice.AttachmentRepository;
+import dev.riss.notice.domain.notice.Notice;
+import dev.riss.notice.domain.notice.NoticeChangeLogRepository;
+import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.domain.notice.NoticeSummary;
+import dev.riss.notice.exception.ApiException;
+import dev.riss.notice.search.NoticeSearchIndex;
+import dev.riss.notice.search.SearchHit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 다른 노드의 변경은 DB 를 직접 고치고 다른 노드 id 로 변경 기록을 써서 흉내 낸다.
+ */
+@SpringBootTest(properties = {"notice.change-log.enabled=true", "notice.change-log.poll-interval-ms=3600000",
+        "notice.suggest.debounce-ms=0"})
+class NoticeChangeSyncTest {
+
+    private static final String OTHER_NODE = "other-node";
+
+    @Autowired
+    private NoticeChangeSync noticeChangeSync;
+    @Autowired
+    private NoticeChangeLogRepository changeLogRepository;
+    @Autowired
+    private NoticeService noticeService;
+    @Autowired
+    private NoticeRepository noticeRepository;
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+    @Autowired
+    private ActiveNoticeSnapshot activeNoticeSnapshot;
+    @Autowired
+    private NoticeSearchIndex noticeSearchIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        attachmentRepository.deleteAll();
+        noticeRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM notice_change_log");
+    }
+
+    Notice saveNotice(String title) {
+        return noticeRepository.save(Notice.builder()
+                .title(title)
+                .content(title + " 내용")
+                .author("관리자")
+                .startAt(LocalDateTime.now().minusDays(1))
+                .endAt(LocalDateTime.now().plusDays(1))
+                .views(0L)
+                .build());
+    }
+
+    int countChanges(Long noticeUid, String origin) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notice_change_log WHERE notice_uid = ? AND origin = ?",
+                Integer.class, noticeUid, origin);
+    }
+
+    void updateTitleOnOtherNode(Long noticeUid, String title) {
+        jdbcTemplate.update("UPDATE notice SET title = ?, updated_at = ? WHERE uid = ?", title, LocalDateTime.now(), noticeUid);
+        changeLogRepository.append(noticeUid, OTHER_NODE);
+    }
+
+    List<String> snapshotTitles() {
+        return activeNoticeSnapshot.findPage(0, 100).stream().map(NoticeSummary::getTitle).toList();
+    }
+
+    List<Long> searchUids(String query) {
+        return noticeSearchIndex.search(query, 10).stream().map(SearchHit::getUid).toList();
+    }
+
+    @Test
+    void appendsInSameTransaction() {
+
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Notice committed = saveNotice("커밋된 공지");
+        Long rolledBackUid = transactionTemplate.execute(status -> {
+            Notice notice = noticeRepository.saveAndFlush(Notice.builder()
+                    .title("롤백된 공지")
+                    .content("롤백된 공지 내용")
+                    .author("관리자")
+                    .startAt(LocalDateTime.now().minusDays(1))
+                    .endAt(LocalDateTime.now().plusDays(1))
+                    .views(0L)
+                    .build());
+            status.setRollbackOnly();
+            return notice.getUid();
+        });
+
+        // then
+        assertEquals(1, countChanges(committed.getUid(), noticeChangeSync.getNodeId()));
+        assertEquals(0, countChanges(rolledBackUid, noticeChangeSync.getNodeId())); // 롤백되면 기록도 없음
+    }
+
+    @Test
+    void appliesChangesFromOtherNode() {
+
+        // given
+        Notice notice = saveNotice("원래 제목");
+        noticeChangeSync.poll(); // 이 노드가 쓴 기록은 건너뜀
+        assertEquals("원래 제목", noticeService.findById(notice.getUid()).getData().getTitle()); // 캐시에 올림
+
+        // when
+        updateTitleOnOtherNode(notice.getUid(), "다른 노드에서 바꾼 제목");
+
+        // then
+        assertEquals("원래 제목", noticeService.findById(notice.getUid()).getData().getTitle()); // 반영 전에는 캐시된 값
+        noticeChangeSync.poll();
+        assertEquals("다른 노드에서 바꾼 제목", noticeService.findById(notice.getUid()).getData().getTitle());
+        assertTrue(snapshotTitles().contains("다른 노드에서 바꾼 제목"));
+        assertFalse(snapshotTitles().contains("원래 제목"));
+        assertEquals(List.of(notice.getUid()), searchUids("노드에서"));
+
+        // when (삭제)
+        jdbcTemplate.update("DELETE FROM notice WHERE uid = ?", notice.getUid());
+        changeLogRepository.append(notice.getUid(), OTHER_NODE);
+        noticeChangeSync.poll();
+
+        // then
+        assertThrows(ApiException.class, () -> noticeService.findById(notice.getUid()));
+        assertFalse(snapshotTitles().contains("다른 노드에서 바꾼 제목"));
+        assertEquals(List.of(), searchUids("노드에서"));
+    }
+
+    @Test
+    void appliesChangesCommittedOutOfOrder() throws Exception {
+
+        // given
+        Notice first = saveNotice("먼저 쓴 공지");
+        Notice second = saveNotice("나중에 쓴 공지");
+        noticeChangeSync.poll();
+
+        // when (먼저 id 를 받은 트랜잭션이 나중에 커밋)
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> slowTransaction = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            updateTitleOnOtherNode(first.getUid(), "늦게 커밋된 제목");
+            appended.countDown();
+            try {
+                commit.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        appended.await();
+        updateTitleOnOtherNode(second.getUid(), "먼저 커밋된 제목");
+        noticeChangeSync.poll();
+
+        // then
+        assertTrue(snapshotTitles().contains("먼저 커밋된 제목"));
+        assertTrue(snapshotTitles().contains("먼저 쓴 공지"));
+
+        // 건너뛴 id 는 커밋된 뒤에 다시 찾아서 반영
+        commit.countDown();
+        slowTransaction.get();
+        noticeChangeSync.poll();
+        assertTrue(snapshotTitles().contains("늦게 커밋된 제목"));
+        assertFalse(snapshotTitles().contains("먼저 쓴 공지"));
+    }
+}
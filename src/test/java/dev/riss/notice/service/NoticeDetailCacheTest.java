@@ -0,0 +1,81 @@
+package dev.riss.notice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.riss.notice.web.dto.response.NoticeRetrieveDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NoticeDetailCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    NoticeDetailCache newCache(String replicaUrl) {
+        return new NoticeDetailCache(16 * 1024 * 1024, Duration.ofMinutes(5), objectMapper, replicaUrl, Duration.ofSeconds(5), transactionManager);
+    }
+
+    Function<Long, NoticeRetrieveDto> loader(AtomicLong loads) {
+        return uid -> NoticeRetrieveDto.builder()
+                .uid(uid)
+                .title("제목 " + loads.incrementAndGet())
+                .content("내용")
+                .author("관리자")
+                .views(0L)
+                .createdAt(LocalDateTime.of(2025, 1, 28, 0, 0))
+                .noticeAttachmentDtoList(List.of())
+                .build();
+    }
+
+    @Test
+    void loadRecentlyWrittenFromPrimary() {
+
+        // given
+        NoticeDetailCache cache = newCache("jdbc:h2:mem:replica");
+        AtomicLong loads = new AtomicLong();
+        assertEquals("제목 1", cache.get(1L, loader(loads)).getTitle());
+        assertEquals("제목 1", cache.get(1L, loader(loads)).getTitle()); // 캐시 적중
+        verifyNoInteractions(transactionManager); // replica 에서 읽음 (호출한 쪽 트랜잭션)
+
+        // when (트랜잭션 밖이므로 바로 커밋된 것으로 처리)
+        cache.invalidate(1L);
+
+        // then (max-lag 동안은 primary 용 새 readOnly 트랜잭션에서 읽고, 읽은 값은 캐시됨)
+        assertEquals("제목 2", cache.get(1L, loader(loads)).getTitle());
+        assertEquals("제목 2", cache.get(1L, loader(loads)).getTitle());
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+
+        cache.invalidateAll(List.of(1L)); // 조회수 DB 동기화
+        assertEquals("제목 3", cache.get(1L, loader(loads)).getTitle());
+        assertEquals("제목 3", cache.get(1L, loader(loads)).getTitle());
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    @Test
+    void cacheAfterWriteWithoutReplica() {
+
+        // given
+        NoticeDetailCache cache = newCache("");
+        AtomicLong loads = new AtomicLong();
+        cache.get(1L, loader(loads));
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        assertEquals("제목 2", cache.get(1L, loader(loads)).getTitle());
+        assertEquals("제목 2", cache.get(1L, loader(loads)).getTitle());
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -2,18 +2,23 @@ package dev.riss.notice.service;
 
 import dev.riss.notice.domain.notice.Notice;
 import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.search.TitleSuggester;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +30,15 @@ class NoticeServiceTest {
     @Mock
     private NoticeRepository noticeRepositoryMock;
 
+    @Mock
+    private NoticeDetailCache noticeDetailCacheMock;
+
+    @Mock
+    private TitleSuggester titleSuggesterMock;
+
+    @Spy
+    private ViewCounter viewCounter = new ViewCounter();
+
     @Test
     void syncViewCountsToDatabase() {
 
@@ -39,8 +53,22 @@ class NoticeServiceTest {
         noticeServiceMock.syncViewCountsToDatabase();
 
         // then
-        verify(noticeRepositoryMock).incrementViewCount(1L, 3L);
-        verify(noticeRepositoryMock).incrementViewCount(2L, 2L);
+        verify(noticeRepositoryMock).incrementViewCounts(Map.of(1L, 3L, 2L, 2L));
         verifyNoMoreInteractions(noticeRepositoryMock); // 그 외의 호출은 없어야 함
+        assertEquals(0L, viewCounter.pending(1L));
+        assertEquals(0L, viewCounter.pending(2L));
+        verify(noticeDetailCacheMock).invalidateAll(Set.of(1L, 2L)); // 캐시된 조회수는 DB 에서 다시 읽음
+        verify(titleSuggesterMock).addViews(Map.of(1L, 3L, 2L, 2L)); // 자동완성 가중치에도 반영
+    }
+
+    @Test
+    void syncViewCountsToDatabaseWhenEmpty() {
+
+        // given
+        // when
+        noticeServiceMock.syncViewCountsToDatabase();
+
+        // then
+        verifyNoInteractions(noticeRepositoryMock); // 증가분이 없으면 UPDATE 하지 않음
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package dev.riss.notice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewCountJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayPendingDeltasAfterRestart() {
+
+        // given
+        ViewCountJournal journal = new ViewCountJournal(directory.toString(), 1024);
+        ViewCounter viewCounter = new ViewCounter(Optional.of(journal));
+        for (int i = 0; i < 100; i++) viewCounter.increment(1L); // 세그먼트 여러 개에 걸쳐 기록됨
+        viewCounter.increment(2L);
+        journal.sync();
+
+        // when
+        ViewCounter restarted = new ViewCounter(Optional.of(new ViewCountJournal(directory.toString(), 1024)));
+
+        // then
+        assertEquals(100L, restarted.pending(1L));
+        assertEquals(1L, restarted.pending(2L));
+    }
+
+    @Test
+    void truncateAfterAcknowledge() throws Exception {
+
+        // given
+        ViewCountJournal journal = new ViewCountJournal(directory.toString(), 1024);
+        ViewCounter viewCounter = new ViewCounter(Optional.of(journal));
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+
+        // when
+        Map<Long, Long> drained = viewCounter.drain();
+        viewCounter.increment(1L); // 동기화 도중 들어온 조회
+        viewCounter.acknowledge();
+        journal.sync();
+
+        // then
+        assertEquals(Map.of(1L, 2L), drained);
+        ViewCounter restarted = new ViewCounter(Optional.of(new ViewCountJournal(directory.toString(), 1024)));
+        assertEquals(1L, restarted.pending(1L)); // 반영이 끝난 증가분은 복구되지 않아야 함
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2L, files.count()); // 동기화 이후 세그먼트 + 재기동 시 새로 연 세그먼트
+        }
+    }
+
+    @Test
+    void keepSegmentsRolledDuringFlush() {
+
+        // given
+        ViewCountJournal journal = new ViewCountJournal(directory.toString(), 1024);
+        ViewCounter viewCounter = new ViewCounter(Optional.of(journal));
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+
+        // when
+        viewCounter.drain();
+        for (int i = 0; i < 100; i++) viewCounter.increment(2L); // 동기화 도중 세그먼트가 가득 차 새 세그먼트로 넘어감
+        viewCounter.acknowledge();
+        journal.sync();
+
+        // then (drain 시점 이후에 기록된 세그먼트는 지우지 않음)
+        ViewCounter restarted = new ViewCounter(Optional.of(new ViewCountJournal(directory.toString(), 1024)));
+        assertEquals(0L, restarted.pending(1L));
+        assertEquals(100L, restarted.pending(2L));
+    }
+
+    @Test
+    void keepSegmentsWhenNotAcknowledged() {
+
+        // given
+        ViewCountJournal journal = new ViewCountJournal(directory.toString(), 1024);
+        ViewCounter viewCounter = new ViewCounter(Optional.of(journal));
+        viewCounter.increment(1L);
+
+        // when
+        Map<Long, Long> drained = viewCounter.drain();
+        viewCounter.restore(drained); // DB 반영 실패
+
+        // then
+        ViewCounter restarted = new ViewCounter(Optional.of(new ViewCountJournal(directory.toString(), 1024)));
+        assertEquals(1L, restarted.pending(1L));
+    }
+}
@@ -0,0 +1,179 @@
+package dev.riss.notice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewCounterTest {
+
+    @Test
+    void drainAndRestore() {
+
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+
+        // when
+        Map<Long, Long> drained = viewCounter.drain();
+
+        // then
+        assertEquals(Map.of(1L, 2L, 2L, 1L), drained);
+        assertTrue(viewCounter.drain().isEmpty());
+
+        viewCounter.restore(drained);
+        assertEquals(2L, viewCounter.pending(1L));
+        assertEquals(1L, viewCounter.pending(2L));
+    }
+
+    @Test
+    void keepDrainedDeltasVisibleUntilAcknowledged() {
+
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+
+        // when
+        viewCounter.drain();
+        viewCounter.increment(1L); // 동기화 도중 들어온 조회
+
+        // then
+        assertEquals(3L, viewCounter.pending(1L)); // DB 반영 중인 증가분도 포함
+        viewCounter.acknowledge();
+        assertEquals(1L, viewCounter.pending(1L));
+    }
+
+    @Test
+    void discardDrainedDeltasOfDeletedNotice() {
+
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+        Map<Long, Long> drained = viewCounter.drain();
+        viewCounter.increment(1L);
+
+        // when
+        viewCounter.discard(1L);
+        viewCounter.restore(drained); // 삭제 도중 DB 반영이 실패한 경우
+
+        // then
+        assertEquals(0L, viewCounter.pending(1L));
+        assertEquals(1L, viewCounter.pending(2L));
+        assertFalse(viewCounter.drain().containsKey(1L));
+    }
+
+    @Test
+    void removeIdleCounters() {
+
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+        viewCounter.drain();
+        viewCounter.acknowledge();
+
+        // when
+        viewCounter.increment(2L);
+        Map<Long, Long> drained = viewCounter.drain();
+        viewCounter.acknowledge();
+
+        // then
+        assertEquals(Map.of(2L, 1L), drained);
+        assertEquals(1, viewCounter.size()); // 지난 drain 이후 조회가 없던 게시글의 카운터는 제거
+        assertEquals(0L, viewCounter.pending(1L));
+
+        viewCounter.increment(1L); // 제거된 뒤 다시 조회
+        assertEquals(1L, viewCounter.pending(1L));
+        assertEquals(Map.of(1L, 1L), viewCounter.drain());
+    }
+
+    @Test
+    void flushMetrics() {
+
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        viewCounter.bindTo(registry);
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+
+        // when & then
+        assertEquals(2.0, registry.get("notice.view_count.pending.notices").gauge().value());
+        assertEquals(3.0, registry.get("notice.view_count.pending.views").gauge().value());
+
+        Map<Long, Long> drained = viewCounter.drain();
+        viewCounter.restore(drained); // DB 반영 실패
+        assertEquals(1.0, registry.get("notice.view_count.flush.failures").counter().count());
+        assertEquals(3.0, registry.get("notice.view_count.pending.views").gauge().value());
+
+        viewCounter.drain();
+        viewCounter.acknowledge(); // DB 반영 성공
+        assertEquals(0.0, registry.get("notice.view_count.pending.notices").gauge().value());
+        assertEquals(2, registry.get("notice.view_count.flush.batch").summary().count());
+        assertEquals(4.0, registry.get("notice.view_count.flush.batch").summary().totalAmount()); // 게시글 2개씩 두 번
+        assertEquals(1, registry.get("notice.view_count.flush").timer().count());
+        assertTrue(registry.get("notice.view_count.flush.lag").timeGauge().value() >= 0.0);
+    }
+
+    @Test
+    void noIncrementLostWhileDraining() throws Exception {
+
+        // given
+        ViewCounter viewCounter = new ViewCounter();
+        int threadCount = 8;
+        int incrementsPerThread = 300_000;
+        long[] noticeUids = {1L, 2L, 3L};
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Map<Long, Long> flushed = new HashMap<>();
+
+        // when
+        Future<?>[] futures = new Future[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            futures[t] = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    viewCounter.increment(noticeUids[i % noticeUids.length]);
+                }
+                return null;
+            });
+        }
+
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                viewCounter.drain().forEach((uid, delta) -> flushed.merge(uid, delta, Long::sum));
+            }
+        });
+        flusher.start();
+        start.countDown();
+
+        for (Future<?> future : futures) future.get();
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+        viewCounter.drain().forEach((uid, delta) -> flushed.merge(uid, delta, Long::sum));
+
+        // then
+        long total = flushed.values().stream().mapToLong(Long::longValue).sum();
+        assertEquals((long) threadCount * incrementsPerThread, total); // drain 도중 증가분이 유실되지 않아야 함
+        for (long noticeUid : noticeUids) {
+            assertEquals((long) threadCount * incrementsPerThread / noticeUids.length, flushed.get(noticeUid));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dev.riss.notice.storage;
+
+import dev.riss.notice.domain.notice.AttachmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ContentAddressedAttachmentStorageTest {
+
+    @TempDir
+    Path directory;
+
+    AttachmentRepository attachmentRepository;
+    ContentAddressedAttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        attachmentRepository = mock(AttachmentRepository.class);
+        storage = new ContentAddressedAttachmentStorage(attachmentRepository, directory.toString());
+        storage.cleanTempDirectory();
+    }
+
+    @Test
+    void storeSameContentOnce() throws Exception {
+
+        // given
+        byte[] content = "같은 내용의 첨부파일".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        StoredFile first = storage.store(new MockMultipartFile("attachments", "a.pdf", "application/pdf", content), "1_a.pdf");
+        StoredFile second = storage.store(new ByteArrayInputStream(content), "2_b.pdf", 1024);
+
+        // then
+        assertEquals(first.getKey(), second.getKey());
+        assertEquals(first.getChecksum().substring(0, 2) + "/" + first.getChecksum().substring(2, 4) + "/" + first.getChecksum(), first.getKey());
+        assertEquals(content.length, second.getSize());
+        assertArrayEquals(content, Files.readAllBytes(storage.resolve(first.getKey())));
+        try (Stream<Path> files = Files.list(directory.resolve(".tmp"))) {
+            assertEquals(0L, files.count()); // 중복 업로드의 임시 파일은 지워져야 함
+        }
+    }
+
+    @Test
+    void releaseOnlyWhenUnreferenced() throws Exception {
+
+        // given
+        StoredFile storedFile = storage.store(new ByteArrayInputStream(new byte[]{1, 2, 3}), "1_a.bin", 1024);
+        Path path = storage.resolve(storedFile.getKey());
+        when(attachmentRepository.countByNewFileName(storedFile.getKey())).thenReturn(1L, 0L);
+
+        // when & then
+        storage.release(storedFile.getKey()); // 아직 커밋되지 않은 업로드가 참조 중
+        assertTrue(Files.exists(path));
+        verify(attachmentRepository, never()).countByNewFileName(storedFile.getKey());
+
+        storage.unpin(storedFile.getKey());
+        storage.release(storedFile.getKey()); // 다른 첨부파일 행이 참조 중
+        assertTrue(Files.exists(path));
+
+        storage.release(storedFile.getKey()); // 마지막 참조가 삭제됨
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void keepPinnedFilesUnderConcurrentReleases() throws Exception {
+
+        // given (서로 다른 stripe 에 흩어지는 여러 key 를 여러 스레드가 동시에 저장/해제)
+        int threads = 8;
+        int keys = 128;
+        int rounds = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < rounds; round++) {
+                    for (int i = 0; i < keys; i++) {
+                        StoredFile storedFile = storage.store(new ByteArrayInputStream(("첨부파일 " + i).getBytes(StandardCharsets.UTF_8)), i + ".bin", 1024);
+                        storage.release(storedFile.getKey()); // 아직 커밋되지 않은 업로드가 참조 중
+                        assertTrue(Files.exists(storage.resolve(storedFile.getKey())));
+                        storage.unpin(storedFile.getKey());
+                        storage.release(storedFile.getKey());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // then
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertEquals(0L, files.filter(Files::isRegularFile).count()); // 모든 참조가 끝나면 지워져야 함
+        }
+    }
+}
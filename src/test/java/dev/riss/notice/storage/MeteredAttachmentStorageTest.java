@@ -0,0 +1,40 @@
+package dev.riss.notice.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MeteredAttachmentStorageTest {
+
+    @Test
+    void recordsTimeBytesAndFailures() throws Exception {
+
+        // given
+        AttachmentStorage delegate = mock(AttachmentStorage.class);
+        when(delegate.store(any(InputStream.class), eq("1_a.bin"), anyLong())).thenReturn(new StoredFile("1_a.bin", 1024L, "0".repeat(64)));
+        when(delegate.store(any(InputStream.class), eq("1_b.bin"), anyLong())).thenThrow(new IOException("disk full"));
+        doThrow(new IOException("permission denied")).when(delegate).release("1_a.bin");
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MeteredAttachmentStorage storage = new MeteredAttachmentStorage(delegate, registry);
+
+        // when
+        storage.store(new ByteArrayInputStream(new byte[1024]), "1_a.bin", 4096);
+        storage.store(new ByteArrayInputStream(new byte[1024]), "1_a.bin", 4096);
+        assertThrows(IOException.class, () -> storage.store(new ByteArrayInputStream(new byte[1]), "1_b.bin", 4096));
+        assertThrows(IOException.class, () -> storage.release("1_a.bin"));
+
+        // then
+        assertEquals(2, registry.get("notice.attachment.io").tags("operation", "store", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("notice.attachment.io").tags("operation", "store", "outcome", "failure").timer().count());
+        assertEquals(1, registry.get("notice.attachment.io").tags("operation", "release", "outcome", "failure").timer().count());
+        assertEquals(2048.0, registry.get("notice.attachment.io.bytes").counter().count()); // 실패한 저장은 포함하지 않음
+    }
+}
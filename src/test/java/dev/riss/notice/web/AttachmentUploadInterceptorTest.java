@@ -0,0 +1,61 @@
+package dev.riss.notice.web;
+
+import dev.riss.notice.service.AttachmentUploadLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 업로드 한도는 multipart 본문을 받기 전에 잡아야 하므로, 실제 서버에 본문 일부만 보내고 응답을 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"notice.attachment.directory=build/test-uploads", "notice.attachment.io.max-in-flight-bytes=1MB"})
+class AttachmentUploadInterceptorTest {
+
+    private static final String BOUNDARY = "boundary";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private AttachmentUploadLimiter attachmentUploadLimiter;
+
+    @Test
+    void rejectBeforeReadingMultipartBody() throws Exception {
+
+        // given
+        AttachmentUploadLimiter.Permit busy = attachmentUploadLimiter.acquire(DataSize.ofMegabytes(1).toBytes());
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"attachments\"; filename=\"a.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n";
+
+        try (busy; Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(10000);
+            OutputStream out = socket.getOutputStream();
+
+            // when (본문은 앞부분만 보내고 나머지는 보내지 않음)
+            out.write(("POST /api/v1/notice/1/attachment HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Content-Type: multipart/form-data; boundary=" + BOUNDARY + "\r\n"
+                    + "Content-Length: " + DataSize.ofMegabytes(8).toBytes() + "\r\n\r\n"
+                    + head).getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            // then
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertEquals("HTTP/1.1 503 ", reader.readLine().substring(0, 13));
+        }
+
+        assertEquals(0, attachmentUploadLimiter.getActiveUploads()); // 거절된 요청의 permit 은 반환되어야 함
+        assertEquals(0L, attachmentUploadLimiter.getInFlightBytes());
+    }
+}
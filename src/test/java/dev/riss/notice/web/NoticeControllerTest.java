@@ -1,28 +1,46 @@
 package dev.riss.notice.web;
 
+import com.jayway.jsonpath.JsonPath;
+import dev.riss.notice.domain.notice.Attachment;
 import dev.riss.notice.domain.notice.AttachmentRepository;
 import dev.riss.notice.domain.notice.Notice;
 import dev.riss.notice.domain.notice.NoticeRepository;
+import dev.riss.notice.service.NoticeService;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {"notice.attachment.directory=build/test-uploads", "notice.import.batch-size=2",
+        "notice.suggest.debounce-ms=0"})
 class NoticeControllerTest {
 
     private final String url = "/api/v1/notice";
@@ -33,6 +51,8 @@ class NoticeControllerTest {
     private AttachmentRepository attachmentRepository;
     @Autowired
     private NoticeRepository noticeRepository;
+    @Autowired
+    private NoticeService noticeService;
 
     private MockMvc mvc;
 
@@ -51,8 +71,8 @@ class NoticeControllerTest {
         String title = "공지사항 제목";
         String content = "공지사항 내용";
         String author = "이경환";
-        LocalDateTime startAt = LocalDateTime.parse("2025-01-24T00:00:00");
-        LocalDateTime endAt = LocalDateTime.parse("2025-02-24T00:00:00");
+        LocalDateTime startAt = LocalDateTime.now().minusDays(1).withNano(0);
+        LocalDateTime endAt = LocalDateTime.now().plusMonths(1).withNano(0);
 
         Notice notice = Notice
                 .builder()
@@ -99,6 +119,155 @@ class NoticeControllerTest {
                 .andDo(MockMvcResultHandlers.print());
     }
 
+    @Test
+    void importNotices() throws Exception {
+
+        // given
+        String startAt = LocalDateTime.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        String endAt = LocalDateTime.now().plusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        String row = "{\"title\":\"%s\",\"content\":\"내용\",\"author\":\"작성자\",\"startAt\":\"%s\",\"endAt\":\"%s\"}\n";
+        String requestBody = String.format(row, "제목1", startAt, endAt)
+                + String.format(row, "", startAt, endAt)          // 제목 누락
+                + String.format(row, "제목3", startAt, endAt)
+                + String.format(row, "제목4", endAt, startAt)      // 기간 역전
+                + String.format(row, "제목5", startAt, endAt);
+
+        // when
+        MvcResult result = mvc.perform(
+                MockMvcRequestBuilders.post(url + "/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(requestBody)
+        ).andReturn();
+
+        // then
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(6, lines.length);
+        assertTrue(lines[0].contains("\"row\":2") && lines[0].contains("error")); // 검증 실패는 바로 기록
+        assertTrue(lines[1].contains("\"row\":1") && lines[1].contains("uid"));
+        assertTrue(lines[2].contains("\"row\":3") && lines[2].contains("uid"));
+        assertTrue(lines[3].contains("\"row\":4") && lines[3].contains("error"));
+        assertTrue(lines[4].contains("\"row\":5") && lines[4].contains("uid"));
+        assertEquals(3, (int) JsonPath.read(lines[5], "$.summary.succeeded"));
+        assertEquals(2, (int) JsonPath.read(lines[5], "$.summary.failed"));
+        assertEquals(List.of("제목1", "제목3", "제목5"), noticeRepository.findAll().stream().map(Notice::getTitle).sorted().toList());
+    }
+
+    @Test
+    void importNoticesFromJsonArray() throws Exception {
+
+        // given
+        String startAt = LocalDateTime.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        String endAt = LocalDateTime.now().plusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        String row = "{\"title\":\"%s\",\"content\":\"내용\",\"author\":\"작성자\",\"startAt\":\"%s\",\"endAt\":\"%s\"}";
+        String requestBody = "[" + String.format(row, "제목1", startAt, endAt) + ", "
+                + String.format(row, "제목2", startAt, endAt) + ", {\"title\": ]"; // 마지막 행은 JSON 문법 오류
+
+        // when
+        MvcResult result = mvc.perform(
+                MockMvcRequestBuilders.post(url + "/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        ).andReturn();
+
+        // then
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].contains("\"row\":2") && lines[1].contains("uid"));
+        assertTrue(lines[2].contains("\"row\":3") && lines[2].contains("JSON"));
+        assertEquals(2, (int) JsonPath.read(lines[3], "$.summary.succeeded"));
+        assertEquals(2L, noticeRepository.count());
+    }
+
+    @Test
+    void searchNotices() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        mvc.perform(MockMvcRequestBuilders.put(url + "/" + notice.getUid())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"서버 점검 안내\",\"content\":\"점검 시간에는 접속할 수 없습니다.\",\"author\":\"관리자\"," +
+                        "\"startAt\":\"2025-01-24 00:00:00\",\"endAt\":\"2099-02-24 00:00:00\"}"));
+        setUpData();
+
+        // when
+        ResultActions resultActions = mvc.perform(MockMvcRequestBuilders.get(url + "/search").param("q", "점검"));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].uid").value(notice.getUid()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].title").value("서버 점검 안내"));
+    }
+
+    @Test
+    void suggestNotices() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        mvc.perform(MockMvcRequestBuilders.put(url + "/" + notice.getUid())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Server 점검 안내\",\"content\":\"점검 시간에는 접속할 수 없습니다.\",\"author\":\"관리자\"," +
+                        "\"startAt\":\"2025-01-24 00:00:00\",\"endAt\":\"2099-02-24 00:00:00\"}"));
+        setUpData();
+
+        // when
+        ResultActions resultActions = mvc.perform(MockMvcRequestBuilders.get(url + "/suggest").param("q", "server  점"));
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].uid").value(notice.getUid()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].title").value("Server 점검 안내"));
+    }
+
+    @Test
+    void exportNotices() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        setUpData();
+        uploadStream(notice, "파일1.txt", "첨부파일 내용".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        MvcResult asyncResult = mvc.perform(MockMvcRequestBuilders.get(url + "/export").param("attachments", "true"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult)).andReturn();
+
+        // then
+        assertTrue(result.getResponse().getContentType().startsWith("application/x-ndjson"));
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(notice.getUid().intValue(), (int) JsonPath.read(lines[0], "$.uid"));
+        assertEquals("파일1.txt", JsonPath.read(lines[0], "$.attachmentList[0].originFileName"));
+        assertEquals(List.of(), JsonPath.read(lines[1], "$.attachmentList"));
+    }
+
+    @Test
+    void exportNoticesAsCsv() throws Exception {
+
+        // given
+        Notice notice = noticeRepository.save(Notice.builder()
+                .title("제목, \"따옴표\"")
+                .content("여러\n줄")
+                .author("작성자")
+                .startAt(LocalDateTime.now().minusDays(1))
+                .endAt(LocalDateTime.now().minusHours(1)) // 만료된 게시글도 내보냄
+                .views(0L)
+                .build());
+
+        // when
+        MvcResult asyncResult = mvc.perform(MockMvcRequestBuilders.get(url + "/export").param("format", "csv"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult)).andReturn();
+
+        // then
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("uid,title,content,author,views,startAt,endAt,createdAt,updatedAt\r\n"));
+        assertTrue(body.contains("\r\n" + notice.getUid() + ",\"제목, \"\"따옴표\"\"\",\"여러\n줄\",작성자,0,"));
+    }
+
     @Test
     void findAllWhenEmpty() throws Exception {
 
@@ -141,6 +310,44 @@ class NoticeControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].createdAt").value(findNotice.getCreatedAt().format(formatter)));
     }
 
+    @Test
+    void findAllByCursor() throws Exception {
+
+        // given
+        List<Long> uidList = new ArrayList<>();
+        for (int i = 0; i < 15; i++)
+            uidList.add(setUpData().getUid());
+        Collections.reverse(uidList); // 최신순 정렬
+
+        // when
+        ResultActions firstPage = mvc.perform(
+                MockMvcRequestBuilders.get(url + "/all")
+                        .param("cursor", "")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        MvcResult firstResult = firstPage.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.success").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.noticeList.length()").value(10))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.noticeList[0].uid").value(uidList.get(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.noticeList[9].uid").value(uidList.get(9)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.nextCursor").isNotEmpty())
+                .andReturn();
+        String nextCursor = JsonPath.read(firstResult.getResponse().getContentAsString(), "$.data.nextCursor");
+
+        mvc.perform(
+                        MockMvcRequestBuilders.get(url + "/all")
+                                .param("cursor", nextCursor)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.noticeList.length()").value(5))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.noticeList[0].uid").value(uidList.get(10)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.noticeList[4].uid").value(uidList.get(14)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
     @Test
     void findByIdWhenNotEmpty() throws Exception {
 
@@ -168,6 +375,155 @@ class NoticeControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.views").value(notice.getViews()));
     }
 
+    @Test
+    void findByIdIncrementsViews() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(MockMvcRequestBuilders.get(url + "/" + notice.getUid())
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+        noticeService.syncViewCountsToDatabase();
+
+        // then
+        Notice findNotice = noticeRepository.findById(notice.getUid())
+                .get();
+
+        assertEquals(3L, findNotice.getViews());
+    }
+
+    @Test
+    void findByIdAfterUpdate() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        mvc.perform(MockMvcRequestBuilders.get(url + "/" + notice.getUid())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.title").value(notice.getTitle()));
+
+        String requestBody = String.format("""
+                {
+                    "title": "바뀐 공지사항 제목",
+                    "content": "%s",
+                    "author": "%s",
+                    "startAt": "2025-01-24 01:00:00",
+                    "endAt": "2099-02-24 01:00:00"
+                }
+                """, notice.getContent(), notice.getAuthor());
+
+        // when
+        mvc.perform(MockMvcRequestBuilders.put(url + "/" + notice.getUid())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody));
+
+        // then
+        mvc.perform(MockMvcRequestBuilders.get(url + "/" + notice.getUid())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.title").value("바뀐 공지사항 제목")) // 수정 시 캐시가 무효화되어야 함
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.views").value(1)); // 동기화 전 조회수도 반영
+    }
+
+    @Test
+    void findByIdNotModified() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        String detailUrl = url + "/" + notice.getUid();
+        MvcResult first = mvc.perform(MockMvcRequestBuilders.get(detailUrl))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", Matchers.startsWith("W/\"")))
+                .andExpect(MockMvcResultMatchers.header().exists("Last-Modified"))
+                .andExpect(MockMvcResultMatchers.header().string("Cache-Control", "no-cache, private"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        String lastModified = first.getResponse().getHeader("Last-Modified");
+
+        // when & then
+        mvc.perform(MockMvcRequestBuilders.get(detailUrl).header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        mvc.perform(MockMvcRequestBuilders.get(detailUrl).header("If-Modified-Since", lastModified))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        // 304 로 응답한 조회도 조회수에 포함
+        noticeService.syncViewCountsToDatabase();
+        assertEquals(3L, noticeRepository.findById(notice.getUid()).get().getViews());
+
+        // 첨부파일이 바뀌면 게시글 수정 시각도 바뀐다.
+        uploadStream(notice, "파일.txt", "첨부파일 내용".getBytes(StandardCharsets.UTF_8));
+        mvc.perform(MockMvcRequestBuilders.get(detailUrl).header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", Matchers.not(etag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.noticeAttachmentDtoList.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.updatedAt").doesNotExist());
+    }
+
+    @Test
+    void findAllNotModified() throws Exception {
+
+        // given
+        setUpData();
+        String etag = mvc.perform(MockMvcRequestBuilders.get(url + "/all"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then (page, cursor 조회 모두 같은 스냅샷 version 기준)
+        mvc.perform(MockMvcRequestBuilders.get(url + "/all").header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        mvc.perform(MockMvcRequestBuilders.get(url + "/all").param("cursor", "").header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        Notice created = setUpData();
+        mvc.perform(MockMvcRequestBuilders.get(url + "/all").header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", Matchers.not(etag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].uid").value(created.getUid()));
+    }
+
+    @Test
+    void findAllGzip() throws Exception {
+
+        // given (압축할 만큼 큰 목록)
+        for (int i = 0; i < 10; i++) {
+            noticeRepository.save(Notice.builder()
+                    .title("공지사항 제목 ".repeat(10) + i)
+                    .content("공지사항 내용")
+                    .author("이경환")
+                    .startAt(LocalDateTime.now().minusDays(1))
+                    .endAt(LocalDateTime.now().plusMonths(1))
+                    .views(0L)
+                    .build());
+        }
+        byte[] json = mvc.perform(MockMvcRequestBuilders.get(url + "/all"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist("Content-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // when
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.get(url + "/all").header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Encoding", "gzip"))
+                .andExpect(MockMvcResultMatchers.header().string("Vary", Matchers.containsString("Accept-Encoding")))
+                .andReturn();
+
+        // then
+        byte[] gzip = result.getResponse().getContentAsByteArray();
+        assertTrue(gzip.length < json.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+        assertEquals(10, (int) JsonPath.read(new String(json, StandardCharsets.UTF_8), "$.data.length()"));
+        mvc.perform(MockMvcRequestBuilders.get(url + "/all").header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist("Content-Encoding"));
+    }
+
     @Test
     void updateNotice () throws Exception {
 
@@ -215,6 +571,128 @@ class NoticeControllerTest {
         assertEquals(LocalDateTime.parse(endAt, formatter), findNotice.getEndAt());
     }
 
+    @Test
+    void uploadNoticeAttachment() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        byte[] content = "첨부파일 내용".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile attachment = new MockMultipartFile("attachments", "파일1.txt", MediaType.TEXT_PLAIN_VALUE, content);
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                MockMvcRequestBuilders.multipart(url + "/" + notice.getUid() + "/attachment")
+                        .file(attachment)
+        );
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.success").value(true));
+
+        Attachment findAttachment = attachmentRepository.findAllByNoticeUid(notice.getUid()).get(0);
+        assertEquals("파일1.txt", findAttachment.getOriginFileName());
+        assertEquals(content.length, findAttachment.getFileSize());
+        assertEquals(sha256(content), findAttachment.getChecksum());
+        assertArrayEquals(content, Files.readAllBytes(Paths.get("build/test-uploads", findAttachment.getNewFileName())));
+    }
+
+    @Test
+    void uploadNoticeAttachmentStream() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        byte[] content = new byte[3 * 1024 * 1024 + 7];
+        new Random(0).nextBytes(content);
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                MockMvcRequestBuilders.post(url + "/" + notice.getUid() + "/attachment/stream")
+                        .param("fileName", "파일2.bin")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(content)
+        );
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.success").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.uid").isNotEmpty());
+
+        Attachment findAttachment = attachmentRepository.findAllByNoticeUid(notice.getUid()).get(0);
+        assertEquals("파일2.bin", findAttachment.getOriginFileName());
+        assertEquals(content.length, findAttachment.getFileSize());
+        assertEquals(sha256(content), findAttachment.getChecksum());
+        assertArrayEquals(content, Files.readAllBytes(Paths.get("build/test-uploads", findAttachment.getNewFileName())));
+    }
+
+    @Test
+    void downloadNoticeAttachment() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        byte[] content = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+        String downloadUrl = url + "/" + notice.getUid() + "/attachment/" + uploadStream(notice, "첨부 파일.txt", content);
+        String etag = "\"" + sha256(content) + "\"";
+
+        // when
+        ResultActions full = mvc.perform(MockMvcRequestBuilders.get(downloadUrl));
+        ResultActions notModified = mvc.perform(MockMvcRequestBuilders.get(downloadUrl).header("If-None-Match", etag));
+        ResultActions partial = mvc.perform(MockMvcRequestBuilders.get(downloadUrl).header("Range", "bytes=2-5"));
+
+        // then
+        full.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", etag))
+                .andExpect(MockMvcResultMatchers.header().string("Accept-Ranges", "bytes"))
+                .andExpect(MockMvcResultMatchers.header().string("Content-Disposition", Matchers.containsString("filename*=UTF-8''%EC%B2%A8%EB%B6%80%20%ED%8C%8C%EC%9D%BC.txt")))
+                .andExpect(MockMvcResultMatchers.content().bytes(content));
+        notModified.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().bytes(new byte[0]));
+        partial.andExpect(MockMvcResultMatchers.status().isPartialContent())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Range", "bytes 2-5/20"))
+                .andExpect(MockMvcResultMatchers.content().string("2345"));
+    }
+
+    @Test
+    void downloadNoticeAttachmentRanges() throws Exception {
+
+        // given
+        Notice notice = setUpData();
+        byte[] content = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+        String downloadUrl = url + "/" + notice.getUid() + "/attachment/" + uploadStream(notice, "video.bin", content);
+
+        // when
+        ResultActions multiRange = mvc.perform(MockMvcRequestBuilders.get(downloadUrl).header("Range", "bytes=0-1,-3"));
+        ResultActions staleIfRange = mvc.perform(MockMvcRequestBuilders.get(downloadUrl)
+                .header("Range", "bytes=0-1").header("If-Range", "\"other\""));
+        ResultActions unsatisfiable = mvc.perform(MockMvcRequestBuilders.get(downloadUrl).header("Range", "bytes=100-"));
+
+        // then
+        String body = multiRange.andExpect(MockMvcResultMatchers.status().isPartialContent())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", Matchers.startsWith("multipart/byteranges; boundary=")))
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(body.contains("Content-Range: bytes 0-1/20\r\n\r\n01\r\n"));
+        assertTrue(body.contains("Content-Range: bytes 17-19/20\r\n\r\nhij\r\n"));
+        assertEquals(Long.parseLong(multiRange.andReturn().getResponse().getHeader("Content-Length")), body.length());
+
+        staleIfRange.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().bytes(content));
+        unsatisfiable.andExpect(MockMvcResultMatchers.status().isRequestedRangeNotSatisfiable())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Range", "bytes */20"));
+    }
+
+    Object uploadStream(Notice notice, String fileName, byte[] content) throws Exception {
+        MvcResult result = mvc.perform(
+                MockMvcRequestBuilders.post(url + "/" + notice.getUid() + "/attachment/stream")
+                        .param("fileName", fileName)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(content)
+        ).andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.data.uid");
+    }
+
+    String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
     @Test
     void deleteNotice () throws Exception {
 